@@ -0,0 +1,61 @@
+package com.example.todo_project.dto;
+
+import com.example.todo_project.entity.Priority;
+import com.example.todo_project.entity.Role;
+import com.example.todo_project.utils.BenchmarkLogging;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Body of a list endpoint: 3 is the controllers' default page size, 20 and 100 are typical client choices
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResponseSerializationBenchmark {
+
+    @Param({"3", "20", "100"})
+    private int pageSize;
+
+    private ObjectWriter writer;
+    private CommonApiResponse<List<TodoResponseDTO>> response;
+
+    @Setup
+    public void setUp() {
+        BenchmarkLogging.quiet();
+        // Same builder Spring Boot's JacksonAutoConfiguration starts from
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        writer = objectMapper.writer();
+
+        UserDTO user = new UserDTO(42L, "Bench User", "bench@example.com", Role.USER);
+        List<TodoResponseDTO> tasks = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            tasks.add(new TodoResponseDTO((long) i, "Task " + i, "Description of task " + i,
+                    Priority.values()[i % Priority.values().length], LocalDate.of(2026, 1, 1).plusDays(i), i % 2 == 0, user));
+        }
+        response = new CommonApiResponse<>(200, "Tasks retrieved successfully.", tasks);
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws Exception {
+        return writer.writeValueAsBytes(response);
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.todo_project.exception;
+
+import com.example.todo_project.dto.CommonApiResponse;
+import com.example.todo_project.utils.BenchmarkLogging;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.ResponseEntity;
+
+import java.util.concurrent.TimeUnit;
+
+// Error responses including the exception itself, since filling in the stack trace is most of the cost.
+// Logging is switched off, so the numbers are a floor for what a request pays.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GlobalExceptionHandlerBenchmark {
+
+    private GlobalExceptionHandler handler;
+
+    @Setup
+    public void setUp() {
+        BenchmarkLogging.quiet();
+        handler = new GlobalExceptionHandler();
+    }
+
+    @Benchmark
+    public ResponseEntity<CommonApiResponse<String>> applicationException() {
+        return handler.handleApplicationException(new ApplicationException.TodoNotFoundException("Todo not found with id: 7"));
+    }
+
+    @Benchmark
+    public ResponseEntity<CommonApiResponse<String>> runtimeException() {
+        return handler.handleRuntimeException(new IllegalStateException("Unexpected state"));
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.todo_project.service;
+
+import com.example.todo_project.dto.TodoResponseDTO;
+import com.example.todo_project.entity.Priority;
+import com.example.todo_project.entity.Role;
+import com.example.todo_project.entity.Todo;
+import com.example.todo_project.entity.User;
+import com.example.todo_project.utils.BenchmarkLogging;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TodoServiceBenchmark {
+
+    private TodoService todoService;
+    private Todo task;
+
+    @Setup
+    public void setUp() {
+        BenchmarkLogging.quiet();
+        // convertToDTO touches none of the collaborators
+        todoService = new TodoService(null, null, null, null, Duration.ofMinutes(2));
+        User user = new User(42L, "bench@example.com", "password", "Bench User", Role.USER);
+        task = new Todo(7L, "Write report", "Quarterly numbers for the board", LocalDate.of(2026, 1, 15), Priority.HIGH, false, user);
+    }
+
+    @Benchmark
+    public TodoResponseDTO convertToDTO() {
+        return todoService.convertToDTO(task);
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.todo_project.utils;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import org.slf4j.LoggerFactory;
+
+// Outside Spring Boot logback defaults to DEBUG on the console, which would swamp what the benchmarks measure
+public final class BenchmarkLogging {
+
+    private BenchmarkLogging() {
+    }
+
+    public static void quiet() {
+        ((Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME)).setLevel(Level.OFF);
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.todo_project.utils;
+
+import com.example.todo_project.entity.Role;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// Token work done on every authenticated request. The cached variants are what JwtRequestFilter sees for a
+// token it has verified before; the uncached one cycles through more tokens than its one-entry cache holds,
+// so nearly every call pays for the full parse and signature check.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtUtilBenchmark {
+
+    private static final String EMAIL = "bench@example.com";
+
+    private JwtUtil jwtUtil;
+    private JwtUtil uncachedJwtUtil;
+    private String token;
+    private String[] tokens;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        BenchmarkLogging.quiet();
+        jwtUtil = new JwtUtil(10_000);
+        uncachedJwtUtil = new JwtUtil(1);
+        token = jwtUtil.generateToken(42L, "Bench User", EMAIL, Role.USER);
+        tokens = new String[4096];
+        for (int i = 0; i < tokens.length; i++) {
+            tokens[i] = jwtUtil.generateToken((long) i, "Bench User", EMAIL, Role.USER);
+        }
+        jwtUtil.extractAllClaims(token);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken(42L, "Bench User", EMAIL, Role.USER);
+    }
+
+    @Benchmark
+    public String extractUsername() {
+        return jwtUtil.extractUsername(token);
+    }
+
+    @Benchmark
+    public Boolean validateToken() {
+        return jwtUtil.validateToken(token, EMAIL);
+    }
+
+    @Benchmark
+    public String extractUsernameUncached() {
+        next = (next + 1) & (tokens.length - 1);
+        return uncachedJwtUtil.extractUsername(tokens[next]);
+    }
+}
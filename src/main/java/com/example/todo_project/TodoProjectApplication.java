@@ -2,8 +2,12 @@ package com.example.todo_project;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcTransactionManagerAutoConfiguration;
 
-@SpringBootApplication
+// R2DBC is only used by ReactiveTaskRepository, which builds its own connection factory; the auto-configured
+// one would bring a ReactiveTransactionManager that competes with the JPA one for every @Transactional
+@SpringBootApplication(exclude = {R2dbcAutoConfiguration.class, R2dbcTransactionManagerAutoConfiguration.class})
 public class TodoProjectApplication {
 
 	public static void main(String[] args) {
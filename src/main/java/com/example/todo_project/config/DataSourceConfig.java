@@ -0,0 +1,85 @@
+package com.example.todo_project.config;
+
+import com.example.todo_project.utils.BulkheadDataSource;
+import com.example.todo_project.utils.SqlStatementListener;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+@Configuration
+public class DataSourceConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(DataSourceConfig.class);
+
+    // Wraps the auto-configured pool, innermost first: a statement-counting proxy (SqlStatementListener), then a
+    // BulkheadDataSource. SQL timings therefore exclude permit waits. Permits are capped at the pool size minus
+    // app.datasource.bulkhead.nested-headroom, so a permit holder that needs a second connection (see
+    // BulkheadDataSource) always finds one in the pool.
+    @Bean
+    public static BeanPostProcessor dataSourceWrappingPostProcessor(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof BulkheadDataSource || bean instanceof ProxyDataSource) {
+                    return bean;
+                }
+                // Hikari reports -1 until its pool starts, which means its default of 10
+                int poolSize = bean instanceof HikariDataSource hikari && hikari.getMaximumPoolSize() > 0 ? hikari.getMaximumPoolSize() : 10;
+
+                if (environment.getProperty("app.sql.stats.enabled", Boolean.class, true)) {
+                    Duration slowQueryThreshold = environment.getProperty("app.sql.slow-query-threshold", Duration.class, Duration.ofMillis(500));
+                    logger.info("Counting SQL statements on DataSource '{}' (slow query threshold {})", beanName, slowQueryThreshold);
+                    dataSource = ProxyDataSourceBuilder.create(dataSource)
+                            .name(beanName)
+                            .listener(new SqlStatementListener(slowQueryThreshold))
+                            .build();
+                }
+                if (environment.getProperty("app.datasource.bulkhead.enabled", Boolean.class, true)) {
+                    int headroom = environment.getProperty("app.datasource.bulkhead.nested-headroom", Integer.class, 2);
+                    int limit = Math.max(1, poolSize - Math.max(1, headroom));
+                    int maxConcurrent = environment.getProperty("app.datasource.bulkhead.max-concurrent", Integer.class, limit);
+                    if (maxConcurrent > limit) {
+                        logger.warn("app.datasource.bulkhead.max-concurrent={} leaves no room for nested connections in a pool of {}, using {}",
+                                maxConcurrent, poolSize, limit);
+                        maxConcurrent = limit;
+                    }
+                    Duration acquireTimeout = environment.getProperty("app.datasource.bulkhead.acquire-timeout", Duration.class, Duration.ofSeconds(5));
+                    logger.info("Limiting DataSource '{}' to {} concurrent connections (acquire timeout {})", beanName, maxConcurrent, acquireTimeout);
+                    dataSource = new BulkheadDataSource(dataSource, maxConcurrent, acquireTimeout);
+                }
+                return dataSource;
+            }
+        };
+    }
+
+    // Permits in use and callers queued next to the hikaricp.connections.* gauges of the pool behind it
+    @Bean
+    public MeterBinder dataSourceBulkheadMetrics(ObjectProvider<DataSource> dataSources) {
+        return registry -> dataSources.orderedStream()
+                .filter(BulkheadDataSource.class::isInstance)
+                .map(BulkheadDataSource.class::cast)
+                .forEach(bulkhead -> {
+                    Gauge.builder("db.bulkhead.permits.max", bulkhead, BulkheadDataSource::getMaxConcurrent)
+                            .description("Connections the bulkhead lets callers hold at once")
+                            .register(registry);
+                    Gauge.builder("db.bulkhead.permits.available", bulkhead, BulkheadDataSource::getAvailablePermits)
+                            .description("Bulkhead permits not currently held")
+                            .register(registry);
+                    Gauge.builder("db.bulkhead.waiting", bulkhead, BulkheadDataSource::getQueueLength)
+                            .description("Callers waiting for a bulkhead permit")
+                            .register(registry);
+                });
+    }
+}
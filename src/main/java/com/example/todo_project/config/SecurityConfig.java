@@ -1,17 +1,26 @@
 package com.example.todo_project.config;
 
 import com.example.todo_project.utils.JwtRequestFilter;
+import com.example.todo_project.utils.RateLimitFilter;
+import jakarta.servlet.DispatcherType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
@@ -23,19 +32,52 @@ public class SecurityConfig {
 
 
     private final JwtRequestFilter jwtRequestFilter;
+    private final RateLimitFilter rateLimitFilter;
     private final UserDetailsService userDetailsService;
     private final PasswordEncoder passwordEncoder;
 
     private static final Logger logger = LoggerFactory.getLogger(SecurityConfig.class);
 
 
-    public SecurityConfig(JwtRequestFilter jwtRequestFilter, UserDetailsService userDetailsService, PasswordEncoder passwordEncoder) {
+    public SecurityConfig(JwtRequestFilter jwtRequestFilter, RateLimitFilter rateLimitFilter,
+                          UserDetailsService userDetailsService, PasswordEncoder passwordEncoder) {
         this.jwtRequestFilter = jwtRequestFilter;
+        this.rateLimitFilter = rateLimitFilter;
         this.userDetailsService = userDetailsService;
         this.passwordEncoder = passwordEncoder;
     }
 
+    // The Prometheus scrape authenticates with HTTP Basic as its own user, never with an application account.
+    // Without app.metrics.scrape-password the endpoint is closed to everyone.
     @Bean
+    @Order(1)
+    public SecurityFilterChain metricsScrapeFilterChain(HttpSecurity http,
+                                                        @Value("${app.metrics.scrape-username:prometheus}") String username,
+                                                        @Value("${app.metrics.scrape-password:}") String password) throws Exception {
+        http
+                .securityMatcher("/actuator/prometheus")
+                .csrf(csrf -> csrf.disable())
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS));
+
+        if (password.isEmpty()) {
+            logger.warn("app.metrics.scrape-password is not set, /actuator/prometheus is disabled");
+            return http.authorizeHttpRequests(auth -> auth.anyRequest().denyAll()).build();
+        }
+
+        DaoAuthenticationProvider scraper = new DaoAuthenticationProvider();
+        scraper.setPasswordEncoder(passwordEncoder);
+        scraper.setUserDetailsService(new InMemoryUserDetailsManager(
+                User.withUsername(username).password(passwordEncoder.encode(password)).roles("METRICS").build()));
+
+        return http
+                .authenticationManager(new ProviderManager(scraper))
+                .httpBasic(withDefaults())
+                .authorizeHttpRequests(auth -> auth.anyRequest().hasRole("METRICS"))
+                .build();
+    }
+
+    @Bean
+    @Order(2)
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         logger.info("Configuring security filter chain");
 
@@ -43,16 +85,28 @@ public class SecurityConfig {
                 .cors(withDefaults())  // Enable CORS configuration
                 .csrf(csrf -> csrf.disable())  // Disable CSRF protection for stateless APIs
                 .authorizeHttpRequests(auth -> auth
-                        .requestMatchers("/auth/register", "/auth/login").permitAll()  // Public access endpoints
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()  // Completion of a streamed response that was already authorized
+                        .requestMatchers("/auth/register", "/auth/login", "/auth/refresh").permitAll()  // Public access endpoints
+                        .requestMatchers("/actuator/health").permitAll()  // Probes
+                        .requestMatchers("/api/admin/**", "/actuator/**").hasRole("ADMIN")  // Operational endpoints
                         .anyRequest().authenticated()  // Require authentication for all other endpoints
                 )
                 .sessionManagement(session -> session
                         .sessionCreationPolicy(SessionCreationPolicy.STATELESS)  // Set session management to stateless
                 )
                 .addFilterBefore(jwtRequestFilter, UsernamePasswordAuthenticationFilter.class)  // Add JWT filter
+                .addFilterAfter(rateLimitFilter, JwtRequestFilter.class)  // Per-user budgets once the caller is known
                 .build();
     }
 
+    // The rate limiter needs the authenticated principal, so it must only run inside the security chain
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilterRegistration(RateLimitFilter filter) {
+        FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
     @Bean
     public AuthenticationManager authenticationManager(HttpSecurity http) throws Exception {
         logger.info("Setting up AuthenticationManager with custom UserDetailsService and PasswordEncoder");
@@ -0,0 +1,34 @@
+package com.example.todo_project.config;
+
+import com.example.todo_project.entity.User;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+/**
+ * A Caffeine-backed cache that never hands out the User instance it holds. The repository returns an entity
+ * that belongs to the caller's persistence context; storing that instance would let one caller's setters (or
+ * Hibernate dirty checking in a later transaction) change what every other caller reads. Users are therefore
+ * copied on the way in and again on the way out, so each caller gets a detached User of its own.
+ */
+public class UserCopyingCache extends CaffeineCache {
+
+    public UserCopyingCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache, boolean allowNullValues) {
+        super(name, cache, allowNullValues);
+    }
+
+    @Override
+    protected Object toStoreValue(Object userValue) {
+        return super.toStoreValue(copy(userValue));
+    }
+
+    @Override
+    protected Object fromStoreValue(Object storeValue) {
+        return copy(super.fromStoreValue(storeValue));
+    }
+
+    private static Object copy(Object value) {
+        if (value instanceof User user) {
+            return new User(user.getId(), user.getEmail(), user.getPassword(), user.getName(), user.getRole());
+        }
+        return value;
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.todo_project.config;
+
+import com.example.todo_project.utils.TaskETagInterceptor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    private final TaskETagInterceptor taskETagInterceptor;
+
+    public WebConfig(TaskETagInterceptor taskETagInterceptor) {
+        this.taskETagInterceptor = taskETagInterceptor;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(taskETagInterceptor).addPathPatterns("/api/tasks/**");
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.todo_project.controller;
+
+import com.example.todo_project.dto.CacheStatsDTO;
+import com.example.todo_project.dto.CommonApiResponse;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin")
+public class AdminController {
+
+    private final CacheManager cacheManager;
+
+    private static final Logger logger = LoggerFactory.getLogger(AdminController.class);
+
+    public AdminController(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    // Hit/miss/eviction statistics of the in-process caches
+    @GetMapping("/cache-stats")
+    public ResponseEntity<CommonApiResponse<List<CacheStatsDTO>>> getCacheStats() {
+        List<CacheStatsDTO> stats = new ArrayList<>();
+        for (String name : cacheManager.getCacheNames()) {
+            Cache cache = cacheManager.getCache(name);
+            if (cache instanceof CaffeineCache caffeineCache) {
+                com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache = caffeineCache.getNativeCache();
+                CacheStats cacheStats = nativeCache.stats();
+                stats.add(new CacheStatsDTO(name, nativeCache.estimatedSize(), cacheStats.hitCount(),
+                        cacheStats.missCount(), cacheStats.hitRate(), cacheStats.evictionCount()));
+            }
+        }
+        logger.debug("Collected statistics for {} caches", stats.size());
+        return ResponseEntity.ok(new CommonApiResponse<>(HttpStatus.OK.value(), "Cache statistics retrieved successfully.", stats));
+    }
+}
@@ -38,6 +38,10 @@ public class AuthController {
             UserDTO registeredUser = authService.registerUser(request);
             logger.info("User registered successfully: {}", registeredUser.getEmail());
             return ResponseEntity.ok(new CommonApiResponse<>(HttpStatus.OK.value(), "User registered successfully", registeredUser));
+        } catch (ApplicationException.ServiceUnavailableException e) {
+            // GlobalExceptionHandler answers 503 with Retry-After
+            logger.warn("Registration shed for email: {}", request.getEmail());
+            throw e;
         } catch (Exception e) {
             logger.error("Error during registration: {}", e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -61,6 +65,10 @@ public class AuthController {
             logger.warn("Login failed: User not found for email: {}", request.getEmail());
             return ResponseEntity.status(HttpStatus.NOT_FOUND)
                     .body(new CommonApiResponse<>(HttpStatus.NOT_FOUND.value(), "User not found", null));
+        } catch (ApplicationException.ServiceUnavailableException e) {
+            // GlobalExceptionHandler answers 503 with Retry-After
+            logger.warn("Login shed for email: {}", request.getEmail());
+            throw e;
         } catch (Exception e) {
             logger.error("Exception during login: {}", e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -68,4 +76,19 @@ public class AuthController {
         }
     }
 
-}
\ No newline at end of file
+    @PostMapping("/refresh")
+    public ResponseEntity<CommonApiResponse<LoginResponseDTO>> refreshToken(@RequestBody RefreshRequestDTO request) {
+        try {
+            LoginResponseDTO refreshed = authService.refresh(request.getRefreshToken());
+            return ResponseEntity.ok(new CommonApiResponse<>(HttpStatus.OK.value(), "Token refreshed", refreshed));
+        } catch (ApplicationException.InvalidRefreshTokenException e) {
+            logger.warn("Refresh rejected: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(new CommonApiResponse<>(HttpStatus.UNAUTHORIZED.value(), e.getMessage(), null));
+        } catch (Exception e) {
+            logger.error("Exception during token refresh: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new CommonApiResponse<>(HttpStatus.INTERNAL_SERVER_ERROR.value(), "Internal Server Error", null));
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.todo_project.controller;
+
+import com.example.todo_project.dto.CommonApiResponse;
+import com.example.todo_project.dto.TodoResponseDTO;
+import com.example.todo_project.entity.Priority;
+import com.example.todo_project.exception.ApplicationException;
+import com.example.todo_project.repository.ReactiveTaskRepository;
+import com.example.todo_project.utils.JwtUtil;
+import jakarta.servlet.http.HttpServletRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+
+// Read-only task views backed by R2DBC. Lists stream as NDJSON, one TodoResponseDTO per line, in id order;
+// pass the last id seen as afterId to continue. A list returns at most MAX_LIMIT tasks, fewer if limit asks for it. Errors raised before streaming starts go to GlobalExceptionHandler.
+@RestController
+@RequestMapping("/api/reactive/tasks")
+public class ReactiveTodoController {
+
+    private final ReactiveTaskRepository reactiveTaskRepository;
+    private final JwtUtil jwtUtil;
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveTodoController.class);
+
+    private static final int MAX_LIMIT = 1000;
+
+    public ReactiveTodoController(ReactiveTaskRepository reactiveTaskRepository, JwtUtil jwtUtil) {
+        this.reactiveTaskRepository = reactiveTaskRepository;
+        this.jwtUtil = jwtUtil;
+    }
+
+    private static int checkLimit(Integer limit) {
+        if (limit == null) {
+            return MAX_LIMIT;
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new ApplicationException.InvalidRequestException("limit must be between 1 and " + MAX_LIMIT + ".");
+        }
+        return limit;
+    }
+
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<TodoResponseDTO> getAllTasks(@RequestParam(required = false) Long afterId,
+                                             @RequestParam(required = false) Integer limit,
+                                             HttpServletRequest request) {
+        String email = jwtUtil.validateTokenAndGetEmail(request);
+        int pageLimit = checkLimit(limit);
+        logger.debug("Streaming tasks for user: {}, afterId: {}, limit: {}", email, afterId, pageLimit);
+        return reactiveTaskRepository.findByUserEmail(email, afterId, pageLimit);
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<CommonApiResponse<TodoResponseDTO>>> getTaskById(@PathVariable Long id, HttpServletRequest request) {
+        String email = jwtUtil.validateTokenAndGetEmail(request);
+        logger.debug("Reading task ID: {} for user: {}", id, email);
+        return reactiveTaskRepository.findByIdAndUserEmail(id, email)
+                .map(task -> ResponseEntity.ok(new CommonApiResponse<>(HttpStatus.OK.value(), "Task retrieved successfully.", task)))
+                .defaultIfEmpty(ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(new CommonApiResponse<>(HttpStatus.NOT_FOUND.value(), "Task not available.", null)));
+    }
+
+    @GetMapping(value = "/completed", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<TodoResponseDTO> getTasksByCompletion(@RequestParam boolean completed,
+                                                      @RequestParam(required = false) Long afterId,
+                                                      @RequestParam(required = false) Integer limit,
+                                                      HttpServletRequest request) {
+        String email = jwtUtil.validateTokenAndGetEmail(request);
+        int pageLimit = checkLimit(limit);
+        return reactiveTaskRepository.findByUserEmailAndCompleted(email, completed, afterId, pageLimit);
+    }
+
+    @GetMapping(value = "/by-priority", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<TodoResponseDTO> getTasksByPriority(@RequestParam Priority priority,
+                                                    @RequestParam(required = false) Long afterId,
+                                                    @RequestParam(required = false) Integer limit,
+                                                    HttpServletRequest request) {
+        String email = jwtUtil.validateTokenAndGetEmail(request);
+        int pageLimit = checkLimit(limit);
+        return reactiveTaskRepository.findByUserEmailAndPriority(email, priority, afterId, pageLimit);
+    }
+
+    @GetMapping(value = "/search-by-title", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<TodoResponseDTO> searchTasksByTitle(@RequestParam String title,
+                                                    @RequestParam(required = false) Long afterId,
+                                                    @RequestParam(required = false) Integer limit,
+                                                    HttpServletRequest request) {
+        String email = jwtUtil.validateTokenAndGetEmail(request);
+        int pageLimit = checkLimit(limit);
+        return reactiveTaskRepository.findByUserEmailAndTitleContaining(email, title, afterId, pageLimit);
+    }
+
+    @GetMapping(value = "/due-today", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<TodoResponseDTO> getTasksDueToday(@RequestParam(required = false) Long afterId,
+                                                  @RequestParam(required = false) Integer limit,
+                                                  HttpServletRequest request) {
+        String email = jwtUtil.validateTokenAndGetEmail(request);
+        int pageLimit = checkLimit(limit);
+        return reactiveTaskRepository.findByUserEmailAndDueDate(email, LocalDate.now(), afterId, pageLimit);
+    }
+}
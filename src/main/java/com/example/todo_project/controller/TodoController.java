@@ -1,23 +1,36 @@
 package com.example.todo_project.controller;
 
+import com.example.todo_project.dto.AgendaDTO;
+import com.example.todo_project.dto.BatchItemResultDTO;
+import com.example.todo_project.dto.BulkTaskUpdateDTO;
+import com.example.todo_project.dto.BulkUpdateResultDTO;
 import com.example.todo_project.dto.CommonApiResponse;
+import com.example.todo_project.dto.ImportSummaryDTO;
+import com.example.todo_project.dto.RankedTaskSlice;
+import com.example.todo_project.dto.TodoPatchDTO;
 import com.example.todo_project.dto.TodoResponseDTO;
 import com.example.todo_project.entity.Priority;
 import com.example.todo_project.entity.Todo;
 import com.example.todo_project.exception.ApplicationException;
+import com.example.todo_project.service.TaskImportService;
 import com.example.todo_project.service.TodoService;
 import com.example.todo_project.utils.JwtUtil;
-import io.jsonwebtoken.JwtException;
+import com.example.todo_project.utils.TaskCursor;
+import com.example.todo_project.utils.TaskExportFormat;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import jakarta.servlet.http.HttpServletRequest;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDate;
 import java.util.Collections;
 import java.util.List;
 
@@ -26,27 +39,37 @@ import java.util.List;
 public class TodoController {
 
     private final TodoService todoService;
+    private final TaskImportService taskImportService;
     private final JwtUtil jwtUtil;
     private static final Logger logger = LoggerFactory.getLogger(TodoController.class);
 
-    public TodoController(TodoService todoService, JwtUtil jwtUtil) {
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    private static final String HAS_NEXT_HEADER = "X-Has-Next";
+    private static final String TOTAL_COUNT_HEADER = "X-Total-Count";
+
+    public TodoController(TodoService todoService, TaskImportService taskImportService, JwtUtil jwtUtil) {
         this.todoService = todoService;
+        this.taskImportService = taskImportService;
         this.jwtUtil = jwtUtil;
     }
 
-    private String validateTokenAndGetEmail(HttpServletRequest request) {
-        String token = request.getHeader("Authorization");
-
-        if (token == null || !token.startsWith("Bearer ")) {
-            throw new JwtException("Invalid or missing token.");
+    // List metadata travels in headers so the response body keeps its shape:
+    // X-Has-Next always, X-Next-Cursor in cursor mode and X-Total-Count only when includeTotal was requested
+    private HttpHeaders paginationHeaders(Slice<TodoResponseDTO> tasks, String cursor, Long total) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.add(HAS_NEXT_HEADER, String.valueOf(tasks.hasNext()));
+        if (total != null) {
+            headers.add(TOTAL_COUNT_HEADER, String.valueOf(total));
         }
-
-        String email = jwtUtil.extractUsername(token.substring(7));
-        if (email == null) {
-            throw new JwtException("Token validation failed, email not found.");
+        if (cursor != null && tasks.hasNext()) {
+            if (tasks instanceof RankedTaskSlice ranked) {
+                headers.add(NEXT_CURSOR_HEADER, ranked.getNextCursor());
+            } else {
+                List<TodoResponseDTO> content = tasks.getContent();
+                headers.add(NEXT_CURSOR_HEADER, TaskCursor.encode(content.get(content.size() - 1).getId()));
+            }
         }
-
-        return email;
+        return headers;
     }
 
     @PostMapping
@@ -54,7 +77,7 @@ public class TodoController {
         logger.debug("Received request to create task: {}", task);
 
         try {
-            String email = validateTokenAndGetEmail(request);
+            String email = jwtUtil.validateTokenAndGetEmail(request);
             TodoResponseDTO createdTask = todoService.createTask(task, email);
             logger.info("Task created successfully for user: {}", email);
             return ResponseEntity.status(HttpStatus.CREATED)
@@ -83,23 +106,33 @@ public class TodoController {
     public ResponseEntity<CommonApiResponse<List<TodoResponseDTO>>> getAllTasks(
             HttpServletRequest request,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "3") int size) {
+            @RequestParam(defaultValue = "3") int size,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
 
-        logger.debug("Received request to get all tasks for page: {}, size: {}", page, size);
+        logger.debug("Received request to get all tasks for page: {}, size: {}, cursor: {}", page, size, cursor);
 
         try {
-            String email = validateTokenAndGetEmail(request);
-            Pageable pageable = PageRequest.of(page, size);
-            Page<TodoResponseDTO> tasks = todoService.getAllTasks(email, pageable);
+            String email = jwtUtil.validateTokenAndGetEmail(request);
+            Slice<TodoResponseDTO> tasks = cursor != null
+                    ? todoService.getAllTasksAfter(email, TaskCursor.decode(cursor), size)
+                    : todoService.getAllTasks(email, PageRequest.of(page, size));
+            Long total = includeTotal ? todoService.countAllTasks(email) : null;
             logger.info("Tasks retrieved successfully for user: {}", email);
 
             List<TodoResponseDTO> taskContent = tasks.getContent();
 
             if (taskContent.isEmpty()) {
                 logger.info("No tasks found for user: {}", email);
-                return ResponseEntity.ok(new CommonApiResponse<>(HttpStatus.OK.value(), "No tasks found for user", Collections.emptyList()));
+                return ResponseEntity.ok().headers(paginationHeaders(tasks, cursor, total))
+                        .body(new CommonApiResponse<>(HttpStatus.OK.value(), "No tasks found for user", Collections.emptyList()));
             }
-            return ResponseEntity.ok(new CommonApiResponse<>(HttpStatus.OK.value(), "Tasks retrieved successfully.", taskContent));
+            return ResponseEntity.ok().headers(paginationHeaders(tasks, cursor, total))
+                    .body(new CommonApiResponse<>(HttpStatus.OK.value(), "Tasks retrieved successfully.", taskContent));
+        } catch (ApplicationException.InvalidRequestException e) {
+            logger.warn("Invalid list request: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(new CommonApiResponse<>(HttpStatus.BAD_REQUEST.value(), e.getMessage(), null));
         } catch (ApplicationException.JwtException e) {
             logger.error("JWT error: {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
@@ -118,7 +151,7 @@ public class TodoController {
         logger.debug("Received request to get task by ID: {}", id);
 
         try {
-            String email = validateTokenAndGetEmail(request);
+            String email = jwtUtil.validateTokenAndGetEmail(request);
             TodoResponseDTO task = todoService.getTaskById(id, email);
             logger.info("Task retrieved successfully for user: {}, task ID: {}", email, id);
             return ResponseEntity.ok(new CommonApiResponse<>(HttpStatus.OK.value(), "Task retrieved successfully.", task));
@@ -143,7 +176,7 @@ public class TodoController {
         logger.debug("Received request to update task ID: {}", id);
 
         try {
-            String email = validateTokenAndGetEmail(request);
+            String email = jwtUtil.validateTokenAndGetEmail(request);
             Todo updatedTask = todoService.updateTask(id, task, email);
             logger.info("Task updated successfully for user: {}, task ID: {}", email, id);
             return ResponseEntity.ok(new CommonApiResponse<>(HttpStatus.OK.value(), "Todo updated successfully.", updatedTask));
@@ -166,13 +199,46 @@ public class TodoController {
         }
     }
 
+    // Update only the fields present in the body
+    @PatchMapping("/{id}")
+    public ResponseEntity<CommonApiResponse<Void>> patchTask(@PathVariable Long id, @RequestBody TodoPatchDTO patch, HttpServletRequest request) {
+        logger.debug("Received request to patch task ID: {}", id);
+
+        try {
+            String email = jwtUtil.validateTokenAndGetEmail(request);
+            todoService.patchTask(id, patch, email);
+            logger.info("Task patched successfully for user: {}, task ID: {}", email, id);
+            return ResponseEntity.ok(new CommonApiResponse<>(HttpStatus.OK.value(), "Todo updated successfully.", null));
+        } catch (ApplicationException.InvalidRequestException e) {
+            logger.warn("Invalid patch request: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(new CommonApiResponse<>(HttpStatus.BAD_REQUEST.value(), e.getMessage(), null));
+        } catch (ApplicationException.TodoNotFoundException e) {
+            logger.warn("Task not found for patch: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(new CommonApiResponse<>(HttpStatus.NOT_FOUND.value(), e.getMessage(), null));
+        } catch (ApplicationException.TaskAlreadyExistsException e) {
+            logger.warn("Task already exists: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(new CommonApiResponse<>(HttpStatus.CONFLICT.value(), e.getMessage(), null));
+        } catch (ApplicationException.JwtException e) {
+            logger.error("JWT error: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(new CommonApiResponse<>(HttpStatus.UNAUTHORIZED.value(), "Invalid token.", null));
+        } catch (Exception e) {
+            logger.error("Error patching task: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new CommonApiResponse<>(HttpStatus.INTERNAL_SERVER_ERROR.value(), "Failed to update the todo.", null));
+        }
+    }
+
     // Delete a task
     @DeleteMapping("/{id}")
     public ResponseEntity<CommonApiResponse<Void>> deleteTask(@PathVariable Long id, HttpServletRequest request) {
         logger.debug("Received request to delete task ID: {}", id);
 
         try {
-            String email = validateTokenAndGetEmail(request);
+            String email = jwtUtil.validateTokenAndGetEmail(request);
             todoService.deleteTask(id, email);
             logger.info("Task deleted successfully for user: {}, task ID: {}", email, id);
             return ResponseEntity.ok(new CommonApiResponse<>(HttpStatus.OK.value(), "Todo deleted successfully.", null));
@@ -195,31 +261,323 @@ public class TodoController {
         }
     }
 
+    // Delete every completed task of the user
+    @DeleteMapping("/completed")
+    public ResponseEntity<CommonApiResponse<BulkUpdateResultDTO>> deleteCompletedTasks(HttpServletRequest request) {
+        logger.debug("Received request to delete completed tasks");
+
+        try {
+            String email = jwtUtil.validateTokenAndGetEmail(request);
+            int deleted = todoService.deleteCompletedTasks(email);
+            logger.info("Deleted {} completed tasks for user: {}", deleted, email);
+            return ResponseEntity.ok(new CommonApiResponse<>(HttpStatus.OK.value(), "Completed todos deleted successfully.", new BulkUpdateResultDTO(deleted)));
+        } catch (ApplicationException.UserNotFoundException e) {
+            logger.warn("User not found: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(new CommonApiResponse<>(HttpStatus.NOT_FOUND.value(), "User not found", null));
+        } catch (ApplicationException.JwtException e) {
+            logger.error("JWT error: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(new CommonApiResponse<>(HttpStatus.UNAUTHORIZED.value(), "Invalid token.", null));
+        } catch (Exception e) {
+            logger.error("Error deleting completed tasks: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new CommonApiResponse<>(HttpStatus.INTERNAL_SERVER_ERROR.value(), "Failed to delete completed todos.", null));
+        }
+    }
+
+    // Batch endpoints: each entry gets its own result, in request order
+    @PostMapping("/batch")
+    public ResponseEntity<CommonApiResponse<List<BatchItemResultDTO>>> createTasks(@RequestBody List<Todo> tasks, HttpServletRequest request) {
+        logger.debug("Received batch request to create {} tasks", tasks.size());
+
+        try {
+            String email = jwtUtil.validateTokenAndGetEmail(request);
+            List<BatchItemResultDTO> results = todoService.createTasks(tasks, email);
+            logger.info("Batch create processed for user: {}", email);
+            return ResponseEntity.ok(new CommonApiResponse<>(HttpStatus.OK.value(), "Batch processed.", results));
+        } catch (ApplicationException.InvalidRequestException e) {
+            logger.warn("Invalid batch request: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(new CommonApiResponse<>(HttpStatus.BAD_REQUEST.value(), e.getMessage(), null));
+        } catch (ApplicationException.UserNotFoundException e) {
+            logger.warn("User not found: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(new CommonApiResponse<>(HttpStatus.NOT_FOUND.value(), "User not found", null));
+        } catch (ApplicationException.TaskAlreadyExistsException e) {
+            logger.warn("Batch rejected by title constraint: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(new CommonApiResponse<>(HttpStatus.CONFLICT.value(), e.getMessage(), null));
+        } catch (ApplicationException.JwtException e) {
+            logger.error("JWT error: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(new CommonApiResponse<>(HttpStatus.UNAUTHORIZED.value(), "Invalid token.", null));
+        } catch (Exception e) {
+            logger.error("Error processing batch create: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new CommonApiResponse<>(HttpStatus.INTERNAL_SERVER_ERROR.value(), "Batch creation failed.", null));
+        }
+    }
+
+    @PutMapping("/batch")
+    public ResponseEntity<CommonApiResponse<List<BatchItemResultDTO>>> updateTasks(@RequestBody List<Todo> tasks, HttpServletRequest request) {
+        logger.debug("Received batch request to update {} tasks", tasks.size());
+
+        try {
+            String email = jwtUtil.validateTokenAndGetEmail(request);
+            List<BatchItemResultDTO> results = todoService.updateTasks(tasks, email);
+            logger.info("Batch update processed for user: {}", email);
+            return ResponseEntity.ok(new CommonApiResponse<>(HttpStatus.OK.value(), "Batch processed.", results));
+        } catch (ApplicationException.InvalidRequestException e) {
+            logger.warn("Invalid batch request: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(new CommonApiResponse<>(HttpStatus.BAD_REQUEST.value(), e.getMessage(), null));
+        } catch (ApplicationException.UserNotFoundException e) {
+            logger.warn("User not found: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(new CommonApiResponse<>(HttpStatus.NOT_FOUND.value(), "User not found", null));
+        } catch (ApplicationException.TaskAlreadyExistsException e) {
+            logger.warn("Batch rejected by title constraint: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(new CommonApiResponse<>(HttpStatus.CONFLICT.value(), e.getMessage(), null));
+        } catch (ApplicationException.JwtException e) {
+            logger.error("JWT error: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(new CommonApiResponse<>(HttpStatus.UNAUTHORIZED.value(), "Invalid token.", null));
+        } catch (Exception e) {
+            logger.error("Error processing batch update: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new CommonApiResponse<>(HttpStatus.INTERNAL_SERVER_ERROR.value(), "Batch update failed.", null));
+        }
+    }
+
+    @DeleteMapping("/batch")
+    public ResponseEntity<CommonApiResponse<List<BatchItemResultDTO>>> deleteTasks(@RequestBody List<Long> ids, HttpServletRequest request) {
+        logger.debug("Received batch request to delete {} tasks", ids.size());
+
+        try {
+            String email = jwtUtil.validateTokenAndGetEmail(request);
+            List<BatchItemResultDTO> results = todoService.deleteTasks(ids, email);
+            logger.info("Batch delete processed for user: {}", email);
+            return ResponseEntity.ok(new CommonApiResponse<>(HttpStatus.OK.value(), "Batch processed.", results));
+        } catch (ApplicationException.InvalidRequestException e) {
+            logger.warn("Invalid batch request: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(new CommonApiResponse<>(HttpStatus.BAD_REQUEST.value(), e.getMessage(), null));
+        } catch (ApplicationException.UserNotFoundException e) {
+            logger.warn("User not found: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(new CommonApiResponse<>(HttpStatus.NOT_FOUND.value(), "User not found", null));
+        } catch (ApplicationException.TaskAlreadyExistsException e) {
+            logger.warn("Batch rejected by title constraint: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(new CommonApiResponse<>(HttpStatus.CONFLICT.value(), e.getMessage(), null));
+        } catch (ApplicationException.JwtException e) {
+            logger.error("JWT error: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(new CommonApiResponse<>(HttpStatus.UNAUTHORIZED.value(), "Invalid token.", null));
+        } catch (Exception e) {
+            logger.error("Error processing batch delete: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new CommonApiResponse<>(HttpStatus.INTERNAL_SERVER_ERROR.value(), "Batch deletion failed.", null));
+        }
+    }
+
+    // Mark the given tasks as completed
+    @PostMapping("/bulk/complete")
+    public ResponseEntity<CommonApiResponse<BulkUpdateResultDTO>> completeTasks(@RequestBody BulkTaskUpdateDTO body, HttpServletRequest request) {
+        logger.debug("Received bulk request to complete");
+
+        try {
+            String email = jwtUtil.validateTokenAndGetEmail(request);
+            int affected = todoService.setCompletion(body.getIds(), true, email);
+            logger.info("Bulk complete changed {} tasks for user: {}", affected, email);
+            return ResponseEntity.ok(new CommonApiResponse<>(HttpStatus.OK.value(), "Tasks updated successfully.", new BulkUpdateResultDTO(affected)));
+        } catch (ApplicationException.InvalidRequestException e) {
+            logger.warn("Invalid bulk request: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(new CommonApiResponse<>(HttpStatus.BAD_REQUEST.value(), e.getMessage(), null));
+        } catch (ApplicationException.UserNotFoundException e) {
+            logger.warn("User not found: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(new CommonApiResponse<>(HttpStatus.NOT_FOUND.value(), "User not found", null));
+        } catch (ApplicationException.JwtException e) {
+            logger.error("JWT error: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(new CommonApiResponse<>(HttpStatus.UNAUTHORIZED.value(), "Invalid token.", null));
+        } catch (Exception e) {
+            logger.error("Error running bulk complete: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new CommonApiResponse<>(HttpStatus.INTERNAL_SERVER_ERROR.value(), "Failed to update the tasks.", null));
+        }
+    }
+
+    // Reopen the given tasks
+    @PostMapping("/bulk/reopen")
+    public ResponseEntity<CommonApiResponse<BulkUpdateResultDTO>> reopenTasks(@RequestBody BulkTaskUpdateDTO body, HttpServletRequest request) {
+        logger.debug("Received bulk request to reopen");
+
+        try {
+            String email = jwtUtil.validateTokenAndGetEmail(request);
+            int affected = todoService.setCompletion(body.getIds(), false, email);
+            logger.info("Bulk reopen changed {} tasks for user: {}", affected, email);
+            return ResponseEntity.ok(new CommonApiResponse<>(HttpStatus.OK.value(), "Tasks updated successfully.", new BulkUpdateResultDTO(affected)));
+        } catch (ApplicationException.InvalidRequestException e) {
+            logger.warn("Invalid bulk request: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(new CommonApiResponse<>(HttpStatus.BAD_REQUEST.value(), e.getMessage(), null));
+        } catch (ApplicationException.UserNotFoundException e) {
+            logger.warn("User not found: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(new CommonApiResponse<>(HttpStatus.NOT_FOUND.value(), "User not found", null));
+        } catch (ApplicationException.JwtException e) {
+            logger.error("JWT error: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(new CommonApiResponse<>(HttpStatus.UNAUTHORIZED.value(), "Invalid token.", null));
+        } catch (Exception e) {
+            logger.error("Error running bulk reopen: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new CommonApiResponse<>(HttpStatus.INTERNAL_SERVER_ERROR.value(), "Failed to update the tasks.", null));
+        }
+    }
+
+    // Complete every open task due before the given date
+    @PostMapping("/bulk/complete-due-before")
+    public ResponseEntity<CommonApiResponse<BulkUpdateResultDTO>> completeTasksDueBefore(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date, HttpServletRequest request) {
+        logger.debug("Received bulk request to complete-due-before");
+
+        try {
+            String email = jwtUtil.validateTokenAndGetEmail(request);
+            int affected = todoService.completeTasksDueBefore(date, email);
+            logger.info("Bulk complete-due-before changed {} tasks for user: {}", affected, email);
+            return ResponseEntity.ok(new CommonApiResponse<>(HttpStatus.OK.value(), "Tasks updated successfully.", new BulkUpdateResultDTO(affected)));
+        } catch (ApplicationException.InvalidRequestException e) {
+            logger.warn("Invalid bulk request: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(new CommonApiResponse<>(HttpStatus.BAD_REQUEST.value(), e.getMessage(), null));
+        } catch (ApplicationException.UserNotFoundException e) {
+            logger.warn("User not found: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(new CommonApiResponse<>(HttpStatus.NOT_FOUND.value(), "User not found", null));
+        } catch (ApplicationException.JwtException e) {
+            logger.error("JWT error: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(new CommonApiResponse<>(HttpStatus.UNAUTHORIZED.value(), "Invalid token.", null));
+        } catch (Exception e) {
+            logger.error("Error running bulk complete-due-before: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new CommonApiResponse<>(HttpStatus.INTERNAL_SERVER_ERROR.value(), "Failed to update the tasks.", null));
+        }
+    }
+
+    // Set one priority on the given tasks
+    @PostMapping("/bulk/priority")
+    public ResponseEntity<CommonApiResponse<BulkUpdateResultDTO>> setTasksPriority(@RequestBody BulkTaskUpdateDTO body, HttpServletRequest request) {
+        logger.debug("Received bulk request to priority");
+
+        try {
+            String email = jwtUtil.validateTokenAndGetEmail(request);
+            int affected = todoService.setPriority(body.getIds(), body.getPriority(), email);
+            logger.info("Bulk priority changed {} tasks for user: {}", affected, email);
+            return ResponseEntity.ok(new CommonApiResponse<>(HttpStatus.OK.value(), "Tasks updated successfully.", new BulkUpdateResultDTO(affected)));
+        } catch (ApplicationException.InvalidRequestException e) {
+            logger.warn("Invalid bulk request: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(new CommonApiResponse<>(HttpStatus.BAD_REQUEST.value(), e.getMessage(), null));
+        } catch (ApplicationException.UserNotFoundException e) {
+            logger.warn("User not found: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(new CommonApiResponse<>(HttpStatus.NOT_FOUND.value(), "User not found", null));
+        } catch (ApplicationException.JwtException e) {
+            logger.error("JWT error: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(new CommonApiResponse<>(HttpStatus.UNAUTHORIZED.value(), "Invalid token.", null));
+        } catch (Exception e) {
+            logger.error("Error running bulk priority: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new CommonApiResponse<>(HttpStatus.INTERNAL_SERVER_ERROR.value(), "Failed to update the tasks.", null));
+        }
+    }
+
+    // Export every task of the user as NDJSON (default) or CSV, streamed as rows are read.
+    // The streaming return type cannot carry a CommonApiResponse, so errors are left to GlobalExceptionHandler.
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportTasks(@RequestParam(defaultValue = "ndjson") String format, HttpServletRequest request) {
+        logger.debug("Received request to export tasks as: {}", format);
+
+        String email = jwtUtil.validateTokenAndGetEmail(request);
+        TaskExportFormat exportFormat = TaskExportFormat.from(format);
+        StreamingResponseBody body = out -> todoService.exportTasks(email, exportFormat, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"tasks." + exportFormat.getExtension() + "\"")
+                .body(body);
+    }
+
+    // Import tasks from an NDJSON (default) or CSV body, read incrementally from the request stream
+    @PostMapping("/import")
+    public ResponseEntity<CommonApiResponse<ImportSummaryDTO>> importTasks(@RequestParam(defaultValue = "ndjson") String format, HttpServletRequest request) {
+        logger.debug("Received request to import tasks as: {}", format);
+
+        try {
+            String email = jwtUtil.validateTokenAndGetEmail(request);
+            ImportSummaryDTO summary = taskImportService.importTasks(email, TaskExportFormat.from(format), request.getInputStream());
+            logger.info("Imported {} of {} records for user: {}", summary.getImported(), summary.getRecords(), email);
+            return ResponseEntity.ok(new CommonApiResponse<>(HttpStatus.OK.value(), "Import finished.", summary));
+        } catch (ApplicationException.InvalidRequestException e) {
+            logger.warn("Invalid import request: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(new CommonApiResponse<>(HttpStatus.BAD_REQUEST.value(), e.getMessage(), null));
+        } catch (ApplicationException.UserNotFoundException e) {
+            logger.warn("User not found: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(new CommonApiResponse<>(HttpStatus.NOT_FOUND.value(), "User not found", null));
+        } catch (ApplicationException.JwtException e) {
+            logger.error("JWT error: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(new CommonApiResponse<>(HttpStatus.UNAUTHORIZED.value(), "Invalid token.", null));
+        } catch (Exception e) {
+            logger.error("Error importing tasks: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new CommonApiResponse<>(HttpStatus.INTERNAL_SERVER_ERROR.value(), "Failed to import tasks.", null));
+        }
+    }
+
     // Get tasks by completion status
     @GetMapping("/completed")
     public ResponseEntity<CommonApiResponse<List<TodoResponseDTO>>> getTasksByCompletion(
             @RequestParam boolean completed,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "3") int size,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "false") boolean includeTotal,
             HttpServletRequest request) {
 
-        logger.debug("Received request to get tasks by completion status: {}, page: {}, size: {}", completed, page, size);
+        logger.debug("Received request to get tasks by completion status: {}, page: {}, size: {}, cursor: {}", completed, page, size, cursor);
 
         try {
-            String email = validateTokenAndGetEmail(request);
-            Pageable pageable = PageRequest.of(page, size);
-            Page<TodoResponseDTO> taskResponseDtos = todoService.getTasksByCompletion(email, completed, pageable);
+            String email = jwtUtil.validateTokenAndGetEmail(request);
+            Slice<TodoResponseDTO> taskResponseDtos = cursor != null
+                    ? todoService.getTasksByCompletionAfter(email, completed, TaskCursor.decode(cursor), size)
+                    : todoService.getTasksByCompletion(email, completed, PageRequest.of(page, size));
+            Long total = includeTotal ? todoService.countTasksByCompletion(email, completed) : null;
 
             List<TodoResponseDTO> taskContent = taskResponseDtos.getContent();
 
             if (taskContent.isEmpty()) {
                 logger.info("No tasks found for user: {} with completion status: {}", email, completed);
-                return ResponseEntity.ok(new CommonApiResponse<>(HttpStatus.OK.value(), "No tasks found for user", Collections.emptyList()));
+                return ResponseEntity.ok().headers(paginationHeaders(taskResponseDtos, cursor, total))
+                        .body(new CommonApiResponse<>(HttpStatus.OK.value(), "No tasks found for user", Collections.emptyList()));
             }
 
 
             logger.info("Tasks retrieved by completion status for user: {}", email);
-            return ResponseEntity.ok(new CommonApiResponse<>(HttpStatus.OK.value(), "Todos retrieved successfully.", taskContent));
+            return ResponseEntity.ok().headers(paginationHeaders(taskResponseDtos, cursor, total))
+                    .body(new CommonApiResponse<>(HttpStatus.OK.value(), "Todos retrieved successfully.", taskContent));
+        } catch (ApplicationException.InvalidRequestException e) {
+            logger.warn("Invalid list request: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(new CommonApiResponse<>(HttpStatus.BAD_REQUEST.value(), e.getMessage(), null));
         } catch (ApplicationException.JwtException e) {
             logger.error("JWT error: {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
@@ -237,20 +595,25 @@ public class TodoController {
             @RequestParam Priority priority,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "3") int size,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "false") boolean includeTotal,
             HttpServletRequest request) {
 
-        logger.debug("Received request to get tasks by priority: {}, page: {}, size: {}", priority, page, size);
+        logger.debug("Received request to get tasks by priority: {}, page: {}, size: {}, cursor: {}", priority, page, size, cursor);
 
         try {
-            String email = validateTokenAndGetEmail(request);
-            Pageable pageable = PageRequest.of(page, size);
-            Page<TodoResponseDTO> taskResponseDtos = todoService.getTasksByPriority(email, priority, pageable);
+            String email = jwtUtil.validateTokenAndGetEmail(request);
+            Slice<TodoResponseDTO> taskResponseDtos = cursor != null
+                    ? todoService.getTasksByPriorityAfter(email, priority, TaskCursor.decode(cursor), size)
+                    : todoService.getTasksByPriority(email, priority, PageRequest.of(page, size));
+            Long total = includeTotal ? todoService.countTasksByPriority(email, priority) : null;
 
             List<TodoResponseDTO> taskContent = taskResponseDtos.getContent();
 
             if (taskContent.isEmpty()) {
                 logger.info("No tasks found for user: {} with priority: {}", email, priority);
-                return ResponseEntity.ok(new CommonApiResponse<>(HttpStatus.OK.value(), "No tasks found for user", Collections.emptyList()));
+                return ResponseEntity.ok().headers(paginationHeaders(taskResponseDtos, cursor, total))
+                        .body(new CommonApiResponse<>(HttpStatus.OK.value(), "No tasks found for user", Collections.emptyList()));
             }
 
             CommonApiResponse<List<TodoResponseDTO>> commonApiResponse = new CommonApiResponse<>(
@@ -260,7 +623,11 @@ public class TodoController {
             );
 
             logger.info("Successfully retrieved tasks by priority for user: {}", email);
-            return ResponseEntity.ok(commonApiResponse);
+            return ResponseEntity.ok().headers(paginationHeaders(taskResponseDtos, cursor, total)).body(commonApiResponse);
+        } catch (ApplicationException.InvalidRequestException e) {
+            logger.warn("Invalid list request: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(new CommonApiResponse<>(HttpStatus.BAD_REQUEST.value(), e.getMessage(), null));
         } catch (ApplicationException.JwtException e) {
             logger.error("JWT error while retrieving tasks by priority: {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
@@ -278,20 +645,25 @@ public class TodoController {
             @RequestParam String title,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "3") int size,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "false") boolean includeTotal,
             HttpServletRequest request) {
 
-        logger.debug("Received request to search tasks by title: {}, page: {}, size: {}", title, page, size);
+        logger.debug("Received request to search tasks by title: {}, page: {}, size: {}, cursor: {}", title, page, size, cursor);
 
         try {
-            String email = validateTokenAndGetEmail(request);
-            Pageable pageable = PageRequest.of(page, size);
-            Page<TodoResponseDTO> taskResponseDtos = todoService.searchTasksByTitle(email, title, pageable);
+            String email = jwtUtil.validateTokenAndGetEmail(request);
+            Slice<TodoResponseDTO> taskResponseDtos = cursor != null
+                    ? todoService.searchTasksByTitleAfter(email, title, cursor, size)
+                    : todoService.searchTasksByTitle(email, title, PageRequest.of(page, size));
+            Long total = includeTotal ? todoService.countTasksByTitle(email, title) : null;
 
             List<TodoResponseDTO> taskContent = taskResponseDtos.getContent();
 
             if (taskContent.isEmpty()) {
                 logger.info("No tasks found for title: {} for user: {}", title, email);
-                return ResponseEntity.ok(new CommonApiResponse<>(HttpStatus.OK.value(), "No tasks found matching the title.", Collections.emptyList()));
+                return ResponseEntity.ok().headers(paginationHeaders(taskResponseDtos, cursor, total))
+                        .body(new CommonApiResponse<>(HttpStatus.OK.value(), "No tasks found matching the title.", Collections.emptyList()));
             }
 
             CommonApiResponse<List<TodoResponseDTO>> commonApiResponse = new CommonApiResponse<>(
@@ -301,7 +673,11 @@ public class TodoController {
             );
 
             logger.info("Successfully retrieved tasks by title for user: {}", email);
-            return ResponseEntity.ok(commonApiResponse);
+            return ResponseEntity.ok().headers(paginationHeaders(taskResponseDtos, cursor, total)).body(commonApiResponse);
+        } catch (ApplicationException.InvalidRequestException e) {
+            logger.warn("Invalid list request: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(new CommonApiResponse<>(HttpStatus.BAD_REQUEST.value(), e.getMessage(), null));
         } catch (ApplicationException.JwtException e) {
             logger.error("JWT error while searching tasks by title: {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
@@ -318,20 +694,25 @@ public class TodoController {
     public ResponseEntity<CommonApiResponse<List<TodoResponseDTO>>> getTasksDueToday(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "3") int size,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "false") boolean includeTotal,
             HttpServletRequest request) {
 
-        logger.debug("Received request to fetch tasks due today, page: {}, size: {}", page, size);
+        logger.debug("Received request to fetch tasks due today, page: {}, size: {}, cursor: {}", page, size, cursor);
 
         try {
-            String email = validateTokenAndGetEmail(request);
-            Pageable pageable = PageRequest.of(page, size);
-            Page<TodoResponseDTO> taskResponseDtos = todoService.getTasksDueToday(email, pageable);
+            String email = jwtUtil.validateTokenAndGetEmail(request);
+            Slice<TodoResponseDTO> taskResponseDtos = cursor != null
+                    ? todoService.getTasksDueTodayAfter(email, TaskCursor.decode(cursor), size)
+                    : todoService.getTasksDueToday(email, PageRequest.of(page, size));
+            Long total = includeTotal ? todoService.countTasksDueToday(email) : null;
 
             List<TodoResponseDTO> taskContent = taskResponseDtos.getContent();
 
             if (taskContent.isEmpty()) {
                 logger.info("No tasks due today for user: {}", email);
-                return ResponseEntity.ok(new CommonApiResponse<>(HttpStatus.OK.value(), "No tasks due today.", Collections.emptyList()));
+                return ResponseEntity.ok().headers(paginationHeaders(taskResponseDtos, cursor, total))
+                        .body(new CommonApiResponse<>(HttpStatus.OK.value(), "No tasks due today.", Collections.emptyList()));
             }
 
             CommonApiResponse<List<TodoResponseDTO>> commonApiResponse = new CommonApiResponse<>(
@@ -341,7 +722,11 @@ public class TodoController {
             );
 
             logger.info("Successfully retrieved tasks due today for user: {}", email);
-            return ResponseEntity.ok(commonApiResponse);
+            return ResponseEntity.ok().headers(paginationHeaders(taskResponseDtos, cursor, total)).body(commonApiResponse);
+        } catch (ApplicationException.InvalidRequestException e) {
+            logger.warn("Invalid list request: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(new CommonApiResponse<>(HttpStatus.BAD_REQUEST.value(), e.getMessage(), null));
         } catch (ApplicationException.JwtException e) {
             logger.error("JWT error while fetching tasks due today: {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
@@ -353,5 +738,33 @@ public class TodoController {
         }
     }
 
+    // Dashboard view: overdue, today and the next `days` days for the client's time zone in one query
+    @GetMapping("/agenda")
+    public ResponseEntity<CommonApiResponse<AgendaDTO>> getAgenda(
+            @RequestParam(required = false) String zone,
+            @RequestParam(defaultValue = "7") int days,
+            @RequestParam(defaultValue = "200") int limit,
+            HttpServletRequest request) {
+
+        logger.debug("Received request to fetch agenda, zone: {}, days: {}, limit: {}", zone, days, limit);
 
+        try {
+            String email = jwtUtil.validateTokenAndGetEmail(request);
+            AgendaDTO agenda = todoService.getAgenda(email, zone, days, limit);
+            logger.info("Successfully retrieved agenda for user: {}", email);
+            return ResponseEntity.ok(new CommonApiResponse<>(HttpStatus.OK.value(), "Agenda retrieved successfully.", agenda));
+        } catch (ApplicationException.InvalidRequestException e) {
+            logger.warn("Invalid agenda request: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(new CommonApiResponse<>(HttpStatus.BAD_REQUEST.value(), e.getMessage(), null));
+        } catch (ApplicationException.JwtException e) {
+            logger.error("JWT error while fetching agenda: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(new CommonApiResponse<>(HttpStatus.UNAUTHORIZED.value(), "Invalid token.", null));
+        } catch (Exception e) {
+            logger.error("Error fetching agenda: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new CommonApiResponse<>(HttpStatus.INTERNAL_SERVER_ERROR.value(), "Failed to retrieve agenda.", null));
+        }
+    }
 }
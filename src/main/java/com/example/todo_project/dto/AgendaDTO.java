@@ -0,0 +1,29 @@
+package com.example.todo_project.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+// Open tasks split around the client's "today"; each bucket is ordered by due date, then highest priority first
+@Setter
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class AgendaDTO {
+    private String zone;
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate today;
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate until;
+    private List<TodoResponseDTO> overdue;
+    private List<TodoResponseDTO> dueToday;
+    private List<TodoResponseDTO> upcoming;
+
+    // True when the limit cut the agenda short: the missing tasks are the longest overdue, or the latest due ahead
+    private boolean truncated;
+}
@@ -0,0 +1,19 @@
+package com.example.todo_project.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Outcome of one entry of a batch request; index is the entry's position in the request array
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BatchItemResultDTO {
+    private int index;
+    private Long id;
+    private int status;
+    private String message;
+    private TodoResponseDTO task;
+}
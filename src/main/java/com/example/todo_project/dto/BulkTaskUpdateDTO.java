@@ -0,0 +1,17 @@
+package com.example.todo_project.dto;
+
+import com.example.todo_project.entity.Priority;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BulkTaskUpdateDTO {
+    private List<Long> ids;
+    // Only read by the set-priority endpoint
+    private Priority priority;
+}
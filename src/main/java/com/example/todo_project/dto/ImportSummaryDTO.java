@@ -0,0 +1,20 @@
+package com.example.todo_project.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// Result of POST /api/tasks/import; errors holds the first failures only, errorsTruncated says whether there were more
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ImportSummaryDTO {
+    private long records;
+    private long imported;
+    private long duplicates;
+    private long failed;
+    private List<ImportErrorDTO> errors;
+    private boolean errorsTruncated;
+}
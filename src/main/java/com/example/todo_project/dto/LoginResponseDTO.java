@@ -13,4 +13,16 @@ public class LoginResponseDTO {
     private String token;
     private String username;
     private String email;
+
+    // Single-use; exchange it at /auth/refresh for a new access token and a new refresh token
+    private String refreshToken;
+
+    // Lifetime of the access token in seconds
+    private long expiresIn;
+
+    public LoginResponseDTO(String token, String username, String email) {
+        this.token = token;
+        this.username = username;
+        this.email = email;
+    }
 }
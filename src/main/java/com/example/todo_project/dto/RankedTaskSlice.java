@@ -0,0 +1,19 @@
+package com.example.todo_project.dto;
+
+import lombok.Getter;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.List;
+
+// A page of relevance-ranked search results; the next cursor encodes the score and id of the page's last hit
+@Getter
+public class RankedTaskSlice extends SliceImpl<TodoResponseDTO> {
+
+    private final String nextCursor;
+
+    public RankedTaskSlice(List<TodoResponseDTO> content, Pageable pageable, boolean hasNext, String nextCursor) {
+        super(content, pageable, hasNext);
+        this.nextCursor = nextCursor;
+    }
+}
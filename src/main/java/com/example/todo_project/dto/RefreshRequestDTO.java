@@ -0,0 +1,12 @@
+package com.example.todo_project.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class RefreshRequestDTO {
+    private String refreshToken;
+}
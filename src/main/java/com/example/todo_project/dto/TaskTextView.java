@@ -0,0 +1,8 @@
+package com.example.todo_project.dto;
+
+// Closed projection with just the searchable text of a task, used to build the search index
+public interface TaskTextView {
+    Long getId();
+    String getTitle();
+    String getDescription();
+}
@@ -0,0 +1,26 @@
+package com.example.todo_project.dto;
+
+import com.example.todo_project.entity.Priority;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+// Body of PATCH /api/tasks/{id}: fields left out (or null) keep their current value
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TodoPatchDTO {
+    private String title;
+    private String description;
+    private Priority priority;
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate dueDate;
+    private Boolean completed;
+
+    public boolean isEmpty() {
+        return title == null && description == null && priority == null && dueDate == null && completed == null;
+    }
+}
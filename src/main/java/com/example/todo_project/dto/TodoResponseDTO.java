@@ -1,6 +1,7 @@
 package com.example.todo_project.dto;
 
 import com.example.todo_project.entity.Priority;
+import com.example.todo_project.entity.Role;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.AllArgsConstructor;
@@ -24,4 +25,10 @@ public class TodoResponseDTO {
     @JsonProperty("completed")
     private boolean completed;
     private UserDTO user;
+
+    // Flat constructor used by the JPQL constructor expressions in TodoRepository
+    public TodoResponseDTO(Long id, String title, String description, Priority priority, LocalDate dueDate,
+                           boolean completed, Long userId, String userName, String userEmail, Role userRole) {
+        this(id, title, description, priority, dueDate, completed, new UserDTO(userId, userName, userEmail, userRole));
+    }
 }
@@ -0,0 +1,31 @@
+package com.example.todo_project.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Entity
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class RefreshToken {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // SHA-256 of the token, hex encoded; the token itself is never stored
+    private String tokenHash;
+
+    // Plain id rather than a relation: refreshing reads the user through the cached UserRepository.findById
+    private Long userId;
+
+    private Instant expiresAt;
+
+    private boolean revoked;
+
+    // Set together with revoked; spent rows are purged once this is older than the reuse grace window
+    private Instant revokedAt;
+}
@@ -12,8 +12,11 @@ import java.time.LocalDate;
 @AllArgsConstructor
 @NoArgsConstructor
 public class Todo {
+    // Ids come from a pooled table generator so Hibernate can batch inserts; IDENTITY forces one round trip per row
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "todo_id")
+    @TableGenerator(name = "todo_id", table = "todo_id_generator", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "todo", allocationSize = 50)
     private long id;
 
     private String title;
@@ -52,6 +52,13 @@ public abstract class ApplicationException extends RuntimeException {
         }
     }
 
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public static class InvalidRequestException extends ApplicationException {
+        public InvalidRequestException(String message) {
+            super(message, HttpStatus.BAD_REQUEST, "INVALID_REQUEST");
+        }
+    }
+
     @ResponseStatus(HttpStatus.UNAUTHORIZED)
     public static class InvalidCredentialsException extends ApplicationException {
         public InvalidCredentialsException(String message) {
@@ -59,10 +66,32 @@ public abstract class ApplicationException extends RuntimeException {
         }
     }
 
+    @ResponseStatus(HttpStatus.UNAUTHORIZED)
+    public static class InvalidRefreshTokenException extends ApplicationException {
+        public InvalidRefreshTokenException(String message) {
+            super(message, HttpStatus.UNAUTHORIZED, "INVALID_REFRESH_TOKEN");
+        }
+    }
+
     @ResponseStatus(HttpStatus.FORBIDDEN)
     public static class UnauthorizedAccessException extends ApplicationException {
         public UnauthorizedAccessException(String message) {
             super(message, HttpStatus.FORBIDDEN, "UNAUTHORIZED_ACCESS");
         }
     }
-}
\ No newline at end of file
+
+    // Load shedding: the caller should retry after the given number of seconds, sent back as Retry-After
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public static class ServiceUnavailableException extends ApplicationException {
+        private final long retryAfterSeconds;
+
+        public ServiceUnavailableException(String message, long retryAfterSeconds) {
+            super(message, HttpStatus.SERVICE_UNAVAILABLE, "SERVICE_UNAVAILABLE");
+            this.retryAfterSeconds = retryAfterSeconds;
+        }
+
+        public long getRetryAfterSeconds() {
+            return retryAfterSeconds;
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.example.todo_project.exception;
 import com.example.todo_project.dto.CommonApiResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -28,6 +29,15 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(ex.getStatus()).body(response);
     }
 
+    // Shed load with a hint for when to come back
+    @ExceptionHandler(ApplicationException.ServiceUnavailableException.class)
+    public ResponseEntity<CommonApiResponse<String>> handleServiceUnavailable(ApplicationException.ServiceUnavailableException ex) {
+        logger.warn("Service unavailable: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(new CommonApiResponse<>(HttpStatus.SERVICE_UNAVAILABLE.value(), ex.getMessage(), null));
+    }
+
     // Handle validation errors for @Valid annotated requests
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<CommonApiResponse<List<String>>> handleValidationException(MethodArgumentNotValidException ex) {
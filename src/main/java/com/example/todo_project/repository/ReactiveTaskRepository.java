@@ -0,0 +1,168 @@
+package com.example.todo_project.repository;
+
+import com.example.todo_project.dto.TodoResponseDTO;
+import com.example.todo_project.entity.Priority;
+import com.example.todo_project.entity.Role;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.pool.PoolMetrics;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import io.r2dbc.spi.Readable;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Non-blocking reads of a user's tasks over R2DBC, for the endpoints in ReactiveTodoController.
+ * Rows are mapped straight into the same TodoResponseDTO shape the JPA finders produce.
+ * The connection factory is private to this class and deliberately not a bean: a second
+ * transaction manager would make every JPA @Transactional ambiguous, and this path only reads.
+ * <p>
+ * It talks to the same database as spring.datasource.url through a pool of its own, whose size
+ * (app.r2dbc.pool.max-size) is the reactive share of the database's connections. Callers beyond it
+ * wait in the pool's queue without holding a thread, for at most app.r2dbc.pool.acquire-timeout, and
+ * once app.r2dbc.pool.max-pending are waiting further callers fail at once.
+ */
+@Repository
+public class ReactiveTaskRepository {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveTaskRepository.class);
+
+    private static final String SELECT = "select t.id, t.title, t.description, t.priority, t.due_date, t.completed, "
+            + "u.id as user_id, u.name as user_name, u.email as user_email, u.role as user_role "
+            + "from todo t join `user` u on u.id = t.user_id where u.email = :email";
+    private static final char LIKE_ESCAPE = '!';
+
+    private final ConnectionPool connectionPool;
+    private final DatabaseClient databaseClient;
+
+    public ReactiveTaskRepository(@Value("${spring.datasource.url}") String jdbcUrl,
+                                  @Value("${app.r2dbc.username:${spring.datasource.username:}}") String username,
+                                  @Value("${app.r2dbc.password:${spring.datasource.password:}}") String password,
+                                  @Value("${app.r2dbc.pool.initial-size:1}") int initialSize,
+                                  @Value("${app.r2dbc.pool.max-size:4}") int maxSize,
+                                  @Value("${app.r2dbc.pool.max-pending:100}") int maxPending,
+                                  @Value("${app.r2dbc.pool.acquire-timeout:5s}") Duration acquireTimeout) {
+        ConnectionFactoryOptions.Builder options = ConnectionFactoryOptions.parse(toR2dbcUrl(jdbcUrl)).mutate();
+        if (!username.isEmpty()) {
+            options.option(ConnectionFactoryOptions.USER, username);
+            options.option(ConnectionFactoryOptions.PASSWORD, password);
+        }
+        this.connectionPool = new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options.build()))
+                .name("reactive-tasks")
+                .initialSize(Math.min(initialSize, maxSize))
+                .maxSize(maxSize)
+                .maxAcquireTime(acquireTimeout)
+                .customizer(pool -> pool.maxPendingAcquire(maxPending))
+                .build());
+        this.databaseClient = DatabaseClient.create(connectionPool);
+        logger.info("Reactive task reads using {} with a pool of {} (acquire timeout {})",
+                connectionPool.getMetadata().getName(), maxSize, acquireTimeout);
+    }
+
+    // The JDBC URL's host and database with an R2DBC driver; JDBC-only query parameters are dropped
+    public static String toR2dbcUrl(String jdbcUrl) {
+        if (jdbcUrl.startsWith("jdbc:mysql://")) {
+            int query = jdbcUrl.indexOf('?');
+            return "r2dbc:" + (query < 0 ? jdbcUrl.substring("jdbc:".length()) : jdbcUrl.substring("jdbc:".length(), query));
+        }
+        if (jdbcUrl.startsWith("jdbc:h2:mem:")) {
+            return "r2dbc:h2:mem:///" + jdbcUrl.substring("jdbc:h2:mem:".length());
+        }
+        throw new IllegalStateException("Cannot derive an R2DBC URL from " + jdbcUrl);
+    }
+
+    public PoolMetrics getPoolMetrics() {
+        return connectionPool.getMetrics().orElseThrow();
+    }
+
+    @PreDestroy
+    public void close() {
+        connectionPool.dispose();
+    }
+
+    public Mono<TodoResponseDTO> findByIdAndUserEmail(Long id, String email) {
+        return databaseClient.sql(SELECT + " and t.id = :id")
+                .bind("email", email)
+                .bind("id", id)
+                .map(ReactiveTaskRepository::toDto)
+                .one();
+    }
+
+    // Every list read is keyset-ordered by id; afterId and limit are optional
+    public Flux<TodoResponseDTO> findByUserEmail(String email, Long afterId, Integer limit) {
+        return list(email, "", Map.of(), afterId, limit);
+    }
+
+    public Flux<TodoResponseDTO> findByUserEmailAndCompleted(String email, boolean completed, Long afterId, Integer limit) {
+        return list(email, " and t.completed = :completed", Map.of("completed", completed), afterId, limit);
+    }
+
+    public Flux<TodoResponseDTO> findByUserEmailAndPriority(String email, Priority priority, Long afterId, Integer limit) {
+        return list(email, " and t.priority = :priority", Map.of("priority", priority.name()), afterId, limit);
+    }
+
+    public Flux<TodoResponseDTO> findByUserEmailAndTitleContaining(String email, String title, Long afterId, Integer limit) {
+        return list(email, " and lower(t.title) like :title escape '" + LIKE_ESCAPE + "'",
+                Map.of("title", "%" + escapeLike(title.toLowerCase()) + "%"), afterId, limit);
+    }
+
+    public Flux<TodoResponseDTO> findByUserEmailAndDueDate(String email, LocalDate dueDate, Long afterId, Integer limit) {
+        return list(email, " and t.due_date = :dueDate", Map.of("dueDate", dueDate), afterId, limit);
+    }
+
+    private Flux<TodoResponseDTO> list(String email, String filter, Map<String, Object> filterParams, Long afterId, Integer limit) {
+        StringBuilder sql = new StringBuilder(SELECT).append(filter);
+        Map<String, Object> params = new LinkedHashMap<>(filterParams);
+        params.put("email", email);
+        if (afterId != null) {
+            sql.append(" and t.id > :afterId");
+            params.put("afterId", afterId);
+        }
+        sql.append(" order by t.id");
+        if (limit != null) {
+            sql.append(" limit :limit");
+            params.put("limit", limit);
+        }
+
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql.toString());
+        for (Map.Entry<String, Object> param : params.entrySet()) {
+            spec = spec.bind(param.getKey(), param.getValue());
+        }
+        return spec.map(ReactiveTaskRepository::toDto).all();
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("" + LIKE_ESCAPE, "" + LIKE_ESCAPE + LIKE_ESCAPE)
+                .replace("%", LIKE_ESCAPE + "%")
+                .replace("_", LIKE_ESCAPE + "_");
+    }
+
+    private static TodoResponseDTO toDto(Readable row) {
+        String priority = row.get("priority", String.class);
+        String role = row.get("user_role", String.class);
+        Boolean completed = row.get("completed", Boolean.class);
+        return new TodoResponseDTO(
+                row.get("id", Long.class),
+                row.get("title", String.class),
+                row.get("description", String.class),
+                priority == null ? null : Priority.valueOf(priority),
+                row.get("due_date", LocalDate.class),
+                Boolean.TRUE.equals(completed),
+                row.get("user_id", Long.class),
+                row.get("user_name", String.class),
+                row.get("user_email", String.class),
+                role == null ? null : Role.valueOf(role));
+    }
+}
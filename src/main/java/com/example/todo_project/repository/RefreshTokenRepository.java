@@ -0,0 +1,36 @@
+package com.example.todo_project.repository;
+
+import com.example.todo_project.entity.RefreshToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Optional;
+
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
+
+    // Claims the token for a single refresh; returns 0 if another request already used or revoked it
+    @Transactional
+    @Modifying
+    @Query("update RefreshToken r set r.revoked = true, r.revokedAt = :now where r.id = :id and r.revoked = false")
+    int revoke(@Param("id") Long id, @Param("now") Instant now);
+
+    @Transactional
+    @Modifying
+    @Query("update RefreshToken r set r.revoked = true, r.revokedAt = :now where r.userId = :userId and r.revoked = false")
+    int revokeAllByUserId(@Param("userId") Long userId, @Param("now") Instant now);
+
+    // Drops the user's expired rows and those revoked before revokedBefore
+    @Transactional
+    @Modifying
+    @Query("delete from RefreshToken r where r.userId = :userId and (r.expiresAt < :now "
+            + "or (r.revoked = true and (r.revokedAt is null or r.revokedAt < :revokedBefore)))")
+    int deleteStaleByUserId(@Param("userId") Long userId, @Param("now") Instant now, @Param("revokedBefore") Instant revokedBefore);
+}
@@ -1,25 +1,128 @@
 package com.example.todo_project.repository;
 
+import com.example.todo_project.dto.TaskTextView;
+import com.example.todo_project.dto.TodoResponseDTO;
 import com.example.todo_project.entity.Priority;
 import com.example.todo_project.entity.Todo;
 import com.example.todo_project.entity.User;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface TodoRepository extends JpaRepository<Todo,Long> {
-    boolean existsByTitleAndUser(String title, User user);
-    Page<Todo> findAllByUserEmail(String email, Pageable pageable);
-    Optional<Todo> findByIdAndUser(Long id, User user);
-    Page<Todo> findByUserAndCompleted(User user, boolean completed, Pageable pageable);
-    Page<Todo> findByUserAndPriority(User user, Priority priority, Pageable pageable);
-    Page<Todo> findByUserEmailAndTitleContainingIgnoreCase(String email, String title, Pageable pageable);
-    Page<Todo> findByUserEmailAndDueDate(String email, LocalDate dueDate, Pageable pageable);
+public interface TodoRepository extends JpaRepository<Todo,Long>, TodoRepositoryCustom {
 
+    // Read paths select straight into TodoResponseDTO: no managed entities, no dirty checking, no password hash
+    String DTO_SELECT = "select new com.example.todo_project.dto.TodoResponseDTO("
+            + "t.id, t.title, t.description, t.priority, t.dueDate, t.completed, u.id, u.name, u.email, u.role) "
+            + "from Todo t join t.user u ";
+    int EXPORT_FETCH_SIZE = 500;
+    String TITLE_CONTAINS = "lower(t.title) like lower(concat('%', :#{escape(#title)}, '%')) escape :#{escapeCharacter()}";
 
+    @Query(DTO_SELECT + "where t.id = :id and t.user = :user")
+    Optional<TodoResponseDTO> findDtoByIdAndUser(@Param("id") Long id, @Param("user") User user);
+
+    // List finders return a Slice: Spring Data reads size + 1 rows to compute hasNext and issues no COUNT query
+    @Query(DTO_SELECT + "where u.email = :email")
+    Slice<TodoResponseDTO> findDtosByUserEmail(@Param("email") String email, Pageable pageable);
+
+    @Query(DTO_SELECT + "where t.user = :user and t.completed = :completed")
+    Slice<TodoResponseDTO> findDtosByUserAndCompleted(@Param("user") User user, @Param("completed") boolean completed, Pageable pageable);
+
+    @Query(DTO_SELECT + "where t.user = :user and t.priority = :priority")
+    Slice<TodoResponseDTO> findDtosByUserAndPriority(@Param("user") User user, @Param("priority") Priority priority, Pageable pageable);
+
+    @Query(DTO_SELECT + "where u.email = :email and " + TITLE_CONTAINS)
+    Slice<TodoResponseDTO> findDtosByUserEmailAndTitleContaining(@Param("email") String email, @Param("title") String title, Pageable pageable);
+
+    @Query(DTO_SELECT + "where u.email = :email and t.dueDate = :dueDate")
+    Slice<TodoResponseDTO> findDtosByUserEmailAndDueDate(@Param("email") String email, @Param("dueDate") LocalDate dueDate, Pageable pageable);
+
+    @Query(DTO_SELECT + "where t.id in :ids and t.user = :user")
+    List<TodoResponseDTO> findDtosByIdInAndUser(@Param("ids") Collection<Long> ids, @Param("user") User user);
+
+    List<TaskTextView> findTextViewsByUserId(Long userId);
+
+    // Agenda: open tasks of the user, each range a scan on ix_todo_user_completed_due_date. Priority is ranked with a
+    // CASE so CRITICAL comes first whatever the column type; ordering the column itself would follow the ENUM
+    // ordinal on MySQL but the alphabet on a VARCHAR.
+    String URGENCY = "case t.priority when com.example.todo_project.entity.Priority.CRITICAL then 4 "
+            + "when com.example.todo_project.entity.Priority.HIGH then 3 "
+            + "when com.example.todo_project.entity.Priority.MEDIUM then 2 "
+            + "when com.example.todo_project.entity.Priority.LOW then 1 else 0 end";
+
+    // Overdue tasks, most recently due first, so a limit keeps the ones closest to today
+    @Query(DTO_SELECT + "where u.email = :email and t.completed = false and t.dueDate < :before "
+            + "order by t.dueDate desc, " + URGENCY + " desc, t.id")
+    Slice<TodoResponseDTO> findOpenDtosByUserEmailDueBefore(@Param("email") String email, @Param("before") LocalDate before, Pageable pageable);
+
+    @Query(DTO_SELECT + "where u.email = :email and t.completed = false and t.dueDate between :from and :until "
+            + "order by t.dueDate, " + URGENCY + " desc, t.id")
+    Slice<TodoResponseDTO> findOpenDtosByUserEmailDueBetween(@Param("email") String email, @Param("from") LocalDate from,
+                                                             @Param("until") LocalDate until, Pageable pageable);
+
+    // Set-based lookups for the batch endpoints: one query per batch instead of one per item
+    List<Todo> findAllByUserAndIdIn(User user, Collection<Long> ids);
+
+    @Query("select t.id from Todo t where t.user = :user and t.id in :ids")
+    List<Long> findIdsByUserAndIdIn(@Param("user") User user, @Param("ids") Collection<Long> ids);
+
+    List<TaskTextView> findTextViewsByUserAndTitleIn(User user, Collection<String> titles);
+
+    // Bulk state transitions: one ownership-scoped UPDATE each, returning the number of rows changed
+    @Modifying
+    @Query("update Todo t set t.completed = :completed where t.user = :user and t.id in :ids and t.completed <> :completed")
+    int updateCompletedByUserAndIdIn(@Param("user") User user, @Param("ids") Collection<Long> ids, @Param("completed") boolean completed);
+
+    @Modifying
+    @Query("update Todo t set t.completed = true where t.user = :user and t.completed = false and t.dueDate < :date")
+    int completeByUserAndDueDateBefore(@Param("user") User user, @Param("date") LocalDate date);
+
+    @Modifying
+    @Query("update Todo t set t.priority = :priority where t.user = :user and t.id in :ids and (t.priority is null or t.priority <> :priority)")
+    int updatePriorityByUserAndIdIn(@Param("user") User user, @Param("ids") Collection<Long> ids, @Param("priority") Priority priority);
+
+    @Modifying
+    @Query("delete from Todo t where t.id = :id and t.user = :user")
+    int deleteByIdAndUser(@Param("id") Long id, @Param("user") User user);
+
+    @Modifying
+    @Query("delete from Todo t where t.user = :user and t.completed = true")
+    int deleteCompletedByUser(@Param("user") User user);
+
+    // Totals, only run when a client explicitly asks for them
+    long countByUserEmail(String email);
+    long countByUserAndCompleted(User user, boolean completed);
+    long countByUserAndPriority(User user, Priority priority);
+    long countByUserEmailAndTitleContainingIgnoreCase(String email, String title);
+    long countByUserEmailAndDueDate(String email, LocalDate dueDate);
+
+    // Keyset (seek) variants: the caller passes the last id it has seen and a page request for page 0
+    @Query(DTO_SELECT + "where u.email = :email and t.id > :afterId order by t.id")
+    Slice<TodoResponseDTO> findDtosByUserEmailAfter(@Param("email") String email, @Param("afterId") Long afterId, Pageable pageable);
+
+    @Query(DTO_SELECT + "where t.user = :user and t.completed = :completed and t.id > :afterId order by t.id")
+    Slice<TodoResponseDTO> findDtosByUserAndCompletedAfter(@Param("user") User user, @Param("completed") boolean completed,
+                                                           @Param("afterId") Long afterId, Pageable pageable);
+
+    @Query(DTO_SELECT + "where t.user = :user and t.priority = :priority and t.id > :afterId order by t.id")
+    Slice<TodoResponseDTO> findDtosByUserAndPriorityAfter(@Param("user") User user, @Param("priority") Priority priority,
+                                                          @Param("afterId") Long afterId, Pageable pageable);
+
+    @Query(DTO_SELECT + "where u.email = :email and " + TITLE_CONTAINS + " and t.id > :afterId order by t.id")
+    Slice<TodoResponseDTO> findDtosByUserEmailAndTitleContainingAfter(@Param("email") String email, @Param("title") String title,
+                                                                      @Param("afterId") Long afterId, Pageable pageable);
+
+    @Query(DTO_SELECT + "where u.email = :email and t.dueDate = :dueDate and t.id > :afterId order by t.id")
+    Slice<TodoResponseDTO> findDtosByUserEmailAndDueDateAfter(@Param("email") String email, @Param("dueDate") LocalDate dueDate,
+                                                              @Param("afterId") Long afterId, Pageable pageable);
 }
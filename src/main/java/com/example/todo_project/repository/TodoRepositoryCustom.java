@@ -0,0 +1,16 @@
+package com.example.todo_project.repository;
+
+import com.example.todo_project.dto.TodoPatchDTO;
+import com.example.todo_project.dto.TodoResponseDTO;
+import com.example.todo_project.entity.User;
+
+import java.util.stream.Stream;
+
+public interface TodoRepositoryCustom {
+
+    // Writes only the non-null fields of the patch to the user's task; returns the number of rows matched
+    int patchByIdAndUser(Long id, User user, TodoPatchDTO patch);
+
+    // Forward-only read of every task of the user, in id order, for the export endpoint; the caller closes the stream
+    Stream<TodoResponseDTO> streamDtosByUser(User user);
+}
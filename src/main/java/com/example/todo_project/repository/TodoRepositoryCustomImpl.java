@@ -0,0 +1,63 @@
+package com.example.todo_project.repository;
+
+import com.example.todo_project.dto.TodoPatchDTO;
+import com.example.todo_project.dto.TodoResponseDTO;
+import com.example.todo_project.entity.Todo;
+import com.example.todo_project.entity.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.jpa.HibernateHints;
+
+import java.util.stream.Stream;
+
+public class TodoRepositoryCustomImpl implements TodoRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // One UPDATE ... SET <supplied columns> WHERE id = ? AND user_id = ?, so the ownership check is part of the write
+    @Override
+    public int patchByIdAndUser(Long id, User user, TodoPatchDTO patch) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<Todo> update = cb.createCriteriaUpdate(Todo.class);
+        Root<Todo> todo = update.from(Todo.class);
+
+        if (patch.getTitle() != null) {
+            update.set(todo.<String>get("title"), patch.getTitle());
+        }
+        if (patch.getDescription() != null) {
+            update.set(todo.<String>get("description"), patch.getDescription());
+        }
+        if (patch.getPriority() != null) {
+            update.set(todo.get("priority"), patch.getPriority());
+        }
+        if (patch.getDueDate() != null) {
+            update.set(todo.get("dueDate"), patch.getDueDate());
+        }
+        if (patch.getCompleted() != null) {
+            update.set(todo.<Boolean>get("completed"), patch.getCompleted());
+        }
+
+        update.where(cb.equal(todo.get("id"), id), cb.equal(todo.get("user"), user));
+        return entityManager.createQuery(update).executeUpdate();
+    }
+
+    // DTO rows are never managed by the persistence context. On MySQL a fetch size of Integer.MIN_VALUE makes
+    // Connector/J stream rows one at a time for this statement only, instead of useCursorFetch on every query of
+    // the pool; the connection can run nothing else until the stream is closed. Other databases read in chunks.
+    @Override
+    public Stream<TodoResponseDTO> streamDtosByUser(User user) {
+        boolean mysql = entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices().getDialect() instanceof MySQLDialect;
+        return entityManager.createQuery(TodoRepository.DTO_SELECT + "where t.user = :user order by t.id", TodoResponseDTO.class)
+                .setParameter("user", user)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, mysql ? Integer.MIN_VALUE : TodoRepository.EXPORT_FETCH_SIZE)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+}
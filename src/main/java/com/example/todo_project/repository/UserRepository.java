@@ -1,12 +1,70 @@
 package com.example.todo_project.repository;
 
+import com.example.todo_project.config.CacheConfig;
 import com.example.todo_project.entity.User;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
+
+    // Emails are matched case-insensitively by the database, so the cache key is normalised the same way
+    @Cacheable(cacheNames = CacheConfig.USERS_BY_EMAIL, key = "#p0.toLowerCase()", unless = "#result == null")
     Optional<User> findByEmail(String email);
+
+    @Override
+    @Cacheable(cacheNames = CacheConfig.USERS_BY_ID, key = "#p0", unless = "#result == null")
+    Optional<User> findById(Long id);
+
+    // Saving an existing user may change its email, and the old one is not known here, so that clears every email
+    // key. The id is checked before the call: afterwards a new user has one too.
+    @Override
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.USERS_BY_EMAIL, key = "#p0.email.toLowerCase()"),
+            @CacheEvict(cacheNames = CacheConfig.USERS_BY_EMAIL, allEntries = true, condition = "#p0.id != null", beforeInvocation = true),
+            @CacheEvict(cacheNames = CacheConfig.USERS_BY_ID, key = "#p0.id", condition = "#p0.id != null")
+    })
+    <S extends User> S save(S user);
+
+    @Override
+    @CacheEvict(cacheNames = {CacheConfig.USERS_BY_EMAIL, CacheConfig.USERS_BY_ID}, allEntries = true)
+    <S extends User> List<S> saveAll(Iterable<S> users);
+
+    @Override
+    @CacheEvict(cacheNames = {CacheConfig.USERS_BY_EMAIL, CacheConfig.USERS_BY_ID}, allEntries = true)
+    void delete(User user);
+
+    @Override
+    @CacheEvict(cacheNames = {CacheConfig.USERS_BY_EMAIL, CacheConfig.USERS_BY_ID}, allEntries = true)
+    void deleteById(Long id);
+
+    // Rehash on login: replaces the hash only if it is still the one that was verified, touching no other column
+    @Transactional
+    @Modifying
+    @Query("update User u set u.password = :newHash where u.id = :#{#user.id} and u.password = :#{#user.password}")
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.USERS_BY_EMAIL, key = "#p0.email.toLowerCase()"),
+            @CacheEvict(cacheNames = CacheConfig.USERS_BY_ID, key = "#p0.id")
+    })
+    int updatePasswordHash(@Param("user") User user, @Param("newHash") String newHash);
+
+    // data_version is not mapped on User, so it is read and bumped with native statements. The bump joins the
+    // caller's transaction; DataVersionService runs it just before that transaction commits.
+    @Query(value = "select data_version from `user` where id = :id", nativeQuery = true)
+    Long findDataVersionById(@Param("id") Long id);
+
+    @Transactional
+    @Modifying
+    @Query(value = "update `user` set data_version = data_version + 1 where id = :id", nativeQuery = true)
+    int incrementDataVersion(@Param("id") Long id);
 }
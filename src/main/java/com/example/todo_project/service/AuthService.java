@@ -12,7 +12,6 @@ import org.slf4j.LoggerFactory;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 
@@ -22,14 +21,18 @@ public class AuthService implements UserDetailsService {
     private static final Logger logger = LoggerFactory.getLogger(AuthService.class);
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    // BCrypt runs on PasswordHasher's own pool, never on the request thread
+    private final PasswordHasher passwordHasher;
     private final JwtUtil jwtUtil;
+    private final RefreshTokenService refreshTokenService;
 
     // Constructor injection
-    public AuthService(UserRepository userRepository, PasswordEncoder passwordEncoder, JwtUtil jwtUtil) {
+    public AuthService(UserRepository userRepository, PasswordHasher passwordHasher, JwtUtil jwtUtil,
+                       RefreshTokenService refreshTokenService) {
         this.userRepository = userRepository;
-        this.passwordEncoder = passwordEncoder;
+        this.passwordHasher = passwordHasher;
         this.jwtUtil = jwtUtil;
+        this.refreshTokenService = refreshTokenService;
     }
 
     // Method to check if email already exists
@@ -47,7 +50,7 @@ public class AuthService implements UserDetailsService {
 
         User user = new User();
         user.setEmail(request.getEmail());
-        user.setPassword(passwordEncoder.encode(request.getPassword()));
+        user.setPassword(passwordHasher.encode(request.getPassword()));
         user.setName(request.getName());
         user.setRole(request.getRole());
 
@@ -64,14 +67,37 @@ public class AuthService implements UserDetailsService {
                     logger.error("User not found for email: {}", email);
                     return new ApplicationException.UserNotFoundException("User not found");
                 });
-        if (!passwordEncoder.matches(password, user.getPassword())) {
+        PasswordHasher.Verification verification = passwordHasher.verify(password, user.getPassword());
+        if (!verification.matches()) {
             logger.error("Invalid credentials for email: {}", email);
             throw new ApplicationException.InvalidCredentialsException("Invalid credentials");
         }
 
-        String token = jwtUtil.generateToken(user.getName(), user.getEmail(), user.getRole());
+        // The stored hash predates the current algorithm or cost; swap it while we have the plain password
+        if (verification.rehashed() != null) {
+            int updated = userRepository.updatePasswordHash(user, verification.rehashed());
+            logger.info("Rehashed password for email: {} (updated: {})", email, updated);
+        }
+
+        refreshTokenService.purgeStale(user.getId());
         logger.info("User logged in successfully: {}", email);
-        return new LoginResponseDTO(token, user.getName(), user.getEmail());
+        return issueTokens(user);
+    }
+
+    // Trades a refresh token for a new access/refresh pair; costs a SHA-256 and three statements, no password hash
+    public LoginResponseDTO refresh(String refreshToken) {
+        Long userId = refreshTokenService.consume(refreshToken);
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new ApplicationException.InvalidRefreshTokenException("Invalid refresh token."));
+        logger.debug("Refreshed tokens for user: {}", user.getEmail());
+        return issueTokens(user);
+    }
+
+    private LoginResponseDTO issueTokens(User user) {
+        String token = jwtUtil.generateToken(user.getId(), user.getName(), user.getEmail(), user.getRole());
+        RefreshTokenService.IssuedToken refreshToken = refreshTokenService.issue(user.getId());
+        return new LoginResponseDTO(token, user.getName(), user.getEmail(), refreshToken.token(),
+                jwtUtil.getAccessTokenTtl().toSeconds());
     }
 
     @Override
@@ -0,0 +1,72 @@
+package com.example.todo_project.service;
+
+import com.example.todo_project.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+/**
+ * A per-user counter that moves forward whenever any of the user's tasks change; the task GET endpoints turn it
+ * into an ETag. The counter lives in user.data_version and is cached here, so answering a conditional GET costs
+ * at most one primary-key read and usually nothing.
+ * <p>
+ * The increment is the last statement of the mutating transaction (a beforeCommit callback), so the new version
+ * and the new rows commit together on the connection the transaction already holds; a write never needs a second
+ * connection, and a failed increment rolls the write back instead of leaving the version behind. The user row lock
+ * it takes is held only for the commit itself. The cached entry is dropped after commit: Caffeine waits for a load
+ * of the same key that is still in flight, so no read that started before the commit can repopulate the cache with
+ * the old version. With several instances, an instance learns of another's bumps when its cached entry expires, so
+ * app.data-version.cache-ttl bounds how long a 304 can be stale.
+ */
+@Service
+public class DataVersionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(DataVersionService.class);
+
+    private final UserRepository userRepository;
+    private final Cache<Long, Long> versions;
+
+    public DataVersionService(UserRepository userRepository,
+                              @Value("${app.data-version.cache-max-size:100000}") long maxSize,
+                              @Value("${app.data-version.cache-ttl:5m}") Duration ttl) {
+        this.userRepository = userRepository;
+        this.versions = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    public long current(Long userId) {
+        return versions.get(userId, id -> {
+            Long version = userRepository.findDataVersionById(id);
+            return version == null ? 0L : version;
+        });
+    }
+
+    // Records that the user's tasks changed; must be called inside the transaction that changed them
+    public void bump(Long userId) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Data version bump for user id " + userId + " outside a transaction");
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                userRepository.incrementDataVersion(userId);
+            }
+
+            @Override
+            public void afterCommit() {
+                // Drop rather than increment, so the next read takes whatever the database now holds
+                versions.invalidate(userId);
+                logger.debug("Bumped data version for user id: {}", userId);
+            }
+        });
+    }
+}
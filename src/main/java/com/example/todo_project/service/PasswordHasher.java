@@ -0,0 +1,129 @@
+package com.example.todo_project.service;
+
+import com.example.todo_project.exception.ApplicationException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs BCrypt on a small dedicated pool instead of the request thread. Hashing is deliberately expensive CPU work,
+ * so a login burst is capped at this pool's share of the cores and the rest stays free for ordinary requests.
+ * Work beyond the pool and its bounded queue is refused at once with ServiceUnavailableException (503 with
+ * Retry-After) rather than piling up behind requests that would time out anyway. A caller that times out is
+ * answered with the same 503, but its hash is not cancelled: BCrypt never checks for interruption, so it runs to
+ * completion and keeps its thread or queue slot until then. Overload therefore fills the queue and is turned away
+ * before it is enqueued, instead of being abandoned after it has already cost the CPU.
+ * Executor gauges and timers are published as executor.* with name=password.hashing.
+ */
+@Component
+public class PasswordHasher {
+
+    private static final Logger logger = LoggerFactory.getLogger(PasswordHasher.class);
+
+    private final PasswordEncoder passwordEncoder;
+    private final ExecutorService executor;
+    private final Duration timeout;
+    private final long retryAfterSeconds;
+
+    private final Timer verifyTimer;
+    private final Timer encodeTimer;
+    private final Counter rejected;
+
+    // The outcome of a login check; rehashed is set when the stored hash should be replaced by it
+    public record Verification(boolean matches, String rehashed) {
+    }
+
+    public PasswordHasher(PasswordEncoder passwordEncoder, MeterRegistry meterRegistry,
+                          @Value("${app.security.password-hashing.threads:0}") int threads,
+                          @Value("${app.security.password-hashing.queue-capacity:64}") int queueCapacity,
+                          @Value("${app.security.password-hashing.timeout:10s}") Duration timeout,
+                          @Value("${app.security.password-hashing.retry-after:2s}") Duration retryAfter) {
+        this.passwordEncoder = passwordEncoder;
+        this.timeout = timeout;
+        this.retryAfterSeconds = Math.max(1, retryAfter.toSeconds());
+
+        // 0 means half the cores, so hashing can never take all of them
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger threadNumber = new AtomicInteger();
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(poolSize, poolSize, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                task -> {
+                    Thread thread = new Thread(task, "password-hash-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.executor = ExecutorServiceMetrics.monitor(meterRegistry, pool, "password.hashing");
+
+        this.verifyTimer = meterRegistry.timer("auth.password.hash", "operation", "verify");
+        this.encodeTimer = meterRegistry.timer("auth.password.hash", "operation", "encode");
+        this.rejected = meterRegistry.counter("auth.password.rejected");
+        logger.info("Password hashing on {} threads with a queue of {}", poolSize, queueCapacity);
+    }
+
+    public String encode(String rawPassword) {
+        return submit(() -> encodeTimer.record(() -> passwordEncoder.encode(rawPassword)));
+    }
+
+    // Checks the password and, when the stored hash uses an outdated algorithm or cost, produces its replacement
+    // in the same task so a migrating login queues once
+    public Verification verify(String rawPassword, String encodedPassword) {
+        return submit(() -> {
+            boolean matches = verifyTimer.record(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+            if (!matches || !passwordEncoder.upgradeEncoding(encodedPassword)) {
+                return new Verification(matches, null);
+            }
+            return new Verification(true, encodeTimer.record(() -> passwordEncoder.encode(rawPassword)));
+        });
+    }
+
+    private <T> T submit(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            logger.warn("Password hashing queue is full, rejecting request");
+            throw new ApplicationException.ServiceUnavailableException("Too many sign-in requests, please retry shortly.", retryAfterSeconds);
+        }
+
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            rejected.increment();
+            throw new ApplicationException.ServiceUnavailableException("Sign-in is taking too long, please retry shortly.", retryAfterSeconds);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while hashing a password", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,176 @@
+package com.example.todo_project.service;
+
+import com.example.todo_project.entity.RefreshToken;
+import com.example.todo_project.exception.ApplicationException;
+import com.example.todo_project.repository.RefreshTokenRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HexFormat;
+
+/**
+ * Opaque, single-use refresh tokens. The client gets 256 random bits; the database keeps only their SHA-256,
+ * so a leaked table cannot be replayed. Because the token is random rather than a password, one SHA-256 and an
+ * indexed lookup are enough to verify it - no BCrypt round. The lookup is by digest, so its timing says nothing
+ * about how close a guess was.
+ * <p>
+ * Issued tokens are also kept in a Caffeine index (digest to row id, user and expiry) so a refresh normally costs
+ * one conditional UPDATE that claims the row, a DELETE of long-spent rows and the INSERT of its replacement. The
+ * database stays the authority: a token is only accepted if that UPDATE flips revoked from false to true. Presenting
+ * a token that was already used revokes every token of the user, since one of the two presenters must have stolen it.
+ * <p>
+ * Spent rows are what make that detection possible, so a refresh keeps the user's rows revoked within
+ * app.jwt.refresh-token-reuse-window and deletes older ones; a login deletes all of them.
+ */
+@Service
+public class RefreshTokenService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RefreshTokenService.class);
+
+    private static final int TOKEN_BYTES = 32;
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final Duration refreshTokenTtl;
+    private final Duration reuseWindow;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    private final Cache<String, IndexedToken> index;
+
+    private final Counter rotated;
+    private final Counter rejected;
+    private final Counter reused;
+
+    // What the index remembers about an issued token
+    private record IndexedToken(Long id, Long userId, Instant expiresAt) {
+    }
+
+    // A newly issued token and when it stops being accepted
+    public record IssuedToken(String token, Instant expiresAt) {
+    }
+
+    public RefreshTokenService(RefreshTokenRepository refreshTokenRepository, MeterRegistry meterRegistry,
+                               @Value("${app.jwt.refresh-token-ttl:30d}") Duration refreshTokenTtl,
+                               @Value("${app.jwt.refresh-token-index.max-size:100000}") long indexMaxSize,
+                               @Value("${app.jwt.refresh-token-reuse-window:1d}") Duration reuseWindow) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.refreshTokenTtl = refreshTokenTtl;
+        this.reuseWindow = reuseWindow;
+        this.index = Caffeine.newBuilder()
+                .maximumSize(indexMaxSize)
+                .expireAfter(new TokenExpiry())
+                .build();
+        this.rotated = meterRegistry.counter("auth.refresh", "result", "rotated");
+        this.rejected = meterRegistry.counter("auth.refresh", "result", "rejected");
+        this.reused = meterRegistry.counter("auth.refresh", "result", "reused");
+    }
+
+    public IssuedToken issue(Long userId) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        String tokenHash = hash(token);
+        Instant expiresAt = Instant.now().plus(refreshTokenTtl);
+
+        RefreshToken saved = refreshTokenRepository.save(new RefreshToken(null, tokenHash, userId, expiresAt, false, null));
+        index.put(tokenHash, new IndexedToken(saved.getId(), userId, expiresAt));
+        return new IssuedToken(token, expiresAt);
+    }
+
+    // Consumes the token and returns the id of the user it belongs to; the caller issues the replacement
+    public Long consume(String token) {
+        if (token == null || token.isBlank()) {
+            rejected.increment();
+            throw new ApplicationException.InvalidRefreshTokenException("Refresh token is missing.");
+        }
+
+        String tokenHash = hash(token);
+        IndexedToken indexed = index.getIfPresent(tokenHash);
+        if (indexed == null) {
+            // Issued by another instance or before a restart
+            RefreshToken stored = refreshTokenRepository.findByTokenHash(tokenHash).orElse(null);
+            if (stored == null) {
+                rejected.increment();
+                throw new ApplicationException.InvalidRefreshTokenException("Invalid refresh token.");
+            }
+            if (stored.isRevoked()) {
+                throw reuseDetected(stored.getUserId());
+            }
+            indexed = new IndexedToken(stored.getId(), stored.getUserId(), stored.getExpiresAt());
+        }
+
+        if (!indexed.expiresAt().isAfter(Instant.now())) {
+            index.invalidate(tokenHash);
+            rejected.increment();
+            throw new ApplicationException.InvalidRefreshTokenException("Refresh token has expired.");
+        }
+
+        index.invalidate(tokenHash);
+        Instant now = Instant.now();
+        if (refreshTokenRepository.revoke(indexed.id(), now) == 0) {
+            throw reuseDetected(indexed.userId());
+        }
+        // A client that only ever refreshes would otherwise leave one spent row behind per access token
+        purge(indexed.userId(), now, now.minus(reuseWindow));
+        rotated.increment();
+        return indexed.userId();
+    }
+
+    // Drops every used and expired row of the user; called on login
+    public void purgeStale(Long userId) {
+        Instant now = Instant.now();
+        purge(userId, now, now);
+    }
+
+    private void purge(Long userId, Instant now, Instant revokedBefore) {
+        int deleted = refreshTokenRepository.deleteStaleByUserId(userId, now, revokedBefore);
+        logger.debug("Purged {} stale refresh tokens for user id: {}", deleted, userId);
+    }
+
+    private ApplicationException.InvalidRefreshTokenException reuseDetected(Long userId) {
+        reused.increment();
+        int revoked = refreshTokenRepository.revokeAllByUserId(userId, Instant.now());
+        logger.warn("Refresh token reuse for user id: {}, revoked {} outstanding tokens", userId, revoked);
+        return new ApplicationException.InvalidRefreshTokenException("Refresh token has already been used.");
+    }
+
+    static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static final class TokenExpiry implements Expiry<String, IndexedToken> {
+
+        @Override
+        public long expireAfterCreate(String tokenHash, IndexedToken token, long currentTime) {
+            return Math.max(0, Duration.between(Instant.now(), token.expiresAt()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String tokenHash, IndexedToken token, long currentTime, long currentDuration) {
+            return expireAfterCreate(tokenHash, token, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String tokenHash, IndexedToken token, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
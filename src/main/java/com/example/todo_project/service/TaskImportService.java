@@ -0,0 +1,174 @@
+package com.example.todo_project.service;
+
+import com.example.todo_project.dto.BatchItemResultDTO;
+import com.example.todo_project.dto.ImportErrorDTO;
+import com.example.todo_project.dto.ImportSummaryDTO;
+import com.example.todo_project.entity.Priority;
+import com.example.todo_project.entity.Todo;
+import com.example.todo_project.exception.ApplicationException;
+import com.example.todo_project.utils.TaskExportFormat;
+import com.example.todo_project.utils.TaskImportReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Streams an NDJSON or CSV upload into the user's tasks. Records are parsed one at a time from the
+ * request body and written in chunks through TodoService.createTasks, so each chunk is one transaction
+ * with one title lookup and batched inserts. Earlier chunks are already committed when a later chunk
+ * checks its titles, which is what deduplicates across the whole upload without remembering it.
+ * Reading only as fast as chunks are written leaves the client throttled by TCP flow control.
+ */
+@Service
+public class TaskImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskImportService.class);
+
+    static final int CHUNK_SIZE = 500;
+    static final int MAX_REPORTED_ERRORS = 100;
+    private static final int MAX_TEXT_LENGTH = 255;
+
+    private final TodoService todoService;
+
+    public TaskImportService(TodoService todoService) {
+        this.todoService = todoService;
+    }
+
+    public ImportSummaryDTO importTasks(String email, TaskExportFormat format, InputStream in) throws IOException {
+        logger.debug("Importing tasks as {} for user: {}", format, email);
+        TaskImportReader reader = TaskImportReader.open(format, in);
+        Progress progress = new Progress();
+        List<Todo> chunk = new ArrayList<>(CHUNK_SIZE);
+        List<Long> chunkLines = new ArrayList<>(CHUNK_SIZE);
+
+        while (true) {
+            Map<String, String> record;
+            try {
+                record = reader.next();
+            } catch (ApplicationException.InvalidRequestException e) {
+                progress.records++;
+                progress.fail(reader.getRecordLine(), e.getMessage());
+                continue;
+            }
+            if (record == null) {
+                break;
+            }
+            progress.records++;
+
+            try {
+                chunk.add(toTodo(record));
+                chunkLines.add(reader.getRecordLine());
+            } catch (ApplicationException.InvalidRequestException e) {
+                progress.fail(reader.getRecordLine(), e.getMessage());
+                continue;
+            }
+
+            if (chunk.size() == CHUNK_SIZE) {
+                writeChunk(email, chunk, chunkLines, progress);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            writeChunk(email, chunk, chunkLines, progress);
+        }
+
+        logger.info("Import finished for user: {} - {} records, {} imported, {} duplicates, {} failed",
+                email, progress.records, progress.imported, progress.duplicates, progress.failed);
+        return new ImportSummaryDTO(progress.records, progress.imported, progress.duplicates, progress.failed,
+                progress.errors, progress.failed > progress.errors.size());
+    }
+
+    private void writeChunk(String email, List<Todo> chunk, List<Long> chunkLines, Progress progress) {
+        try {
+            List<BatchItemResultDTO> results = todoService.createTasks(chunk, email);
+            for (BatchItemResultDTO result : results) {
+                if (result.getStatus() == HttpStatus.CREATED.value()) {
+                    progress.imported++;
+                } else if (result.getStatus() == HttpStatus.CONFLICT.value()) {
+                    progress.duplicates++;
+                } else {
+                    progress.fail(chunkLines.get(result.getIndex()), result.getMessage());
+                }
+            }
+        } catch (ApplicationException.TaskAlreadyExistsException e) {
+            // A concurrent write took one of the titles after the check; the whole chunk was rolled back
+            chunkLines.forEach(line -> progress.fail(line, e.getMessage()));
+        }
+        logger.info("Import progress for user: {} - {} records read, {} imported", email, progress.records, progress.imported);
+        chunk.clear();
+        chunkLines.clear();
+    }
+
+    // Validates a record against Todo's columns; unknown fields (such as the id column of an export) are ignored
+    static Todo toTodo(Map<String, String> record) {
+        String title = record.get("title");
+        if (title == null || title.isBlank()) {
+            throw new ApplicationException.InvalidRequestException("Title is required.");
+        }
+        if (title.length() > MAX_TEXT_LENGTH) {
+            throw new ApplicationException.InvalidRequestException("Title exceeds " + MAX_TEXT_LENGTH + " characters.");
+        }
+        String description = record.get("description");
+        if (description != null && description.length() > MAX_TEXT_LENGTH) {
+            throw new ApplicationException.InvalidRequestException("Description exceeds " + MAX_TEXT_LENGTH + " characters.");
+        }
+        return new Todo(0, title, description, parseDueDate(record.get("duedate")),
+                parsePriority(record.get("priority")), parseCompleted(record.get("completed")), null);
+    }
+
+    private static LocalDate parseDueDate(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new ApplicationException.InvalidRequestException("Invalid dueDate '" + value + "', expected yyyy-MM-dd.");
+        }
+    }
+
+    private static Priority parsePriority(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Priority.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new ApplicationException.InvalidRequestException("Invalid priority '" + value + "'.");
+        }
+    }
+
+    private static boolean parseCompleted(String value) {
+        if (value == null || value.equalsIgnoreCase("false")) {
+            return false;
+        }
+        if (value.equalsIgnoreCase("true")) {
+            return true;
+        }
+        throw new ApplicationException.InvalidRequestException("Invalid completed '" + value + "', expected true or false.");
+    }
+
+    private static final class Progress {
+        private long records;
+        private long imported;
+        private long duplicates;
+        private long failed;
+        private final List<ImportErrorDTO> errors = new ArrayList<>();
+
+        void fail(long line, String message) {
+            failed++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new ImportErrorDTO(line, message));
+            }
+        }
+    }
+}
@@ -0,0 +1,368 @@
+package com.example.todo_project.service;
+
+import com.example.todo_project.dto.TaskTextView;
+import com.example.todo_project.entity.User;
+import com.example.todo_project.repository.TodoRepository;
+import com.example.todo_project.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory inverted index over task titles and descriptions, one per user.
+ * Every word is broken into trigrams so substring queries resolve through posting-list
+ * intersections instead of a LIKE '%...%' scan. A user's index is loaded from the database
+ * on first search (or at startup when warming is enabled), kept current by TodoService
+ * mutations, and evicted by total document count when memory is tight.
+ * <p>
+ * Mutations reach the index only after their transaction commits, so a rolled-back write never shows up in
+ * search results. Between the commit and that callback a load may read the new rows, and the callback then
+ * applies the same change a second time, which is harmless. A load that read the rows before the commit sees
+ * the mutation stamp move and is not installed. Writes made by other instances never reach this one, so
+ * every index is rebuilt from the database once it is app.search.index.ttl old, however often it is used.
+ * Incremental updates change an index in place and do not restart that clock.
+ */
+@Component
+public class TaskSearchIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskSearchIndex.class);
+
+    private static final int GRAM_LENGTH = 3;
+    private static final Pattern WORD_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final TodoRepository todoRepository;
+    private final UserRepository userRepository;
+    private final boolean enabled;
+    private final boolean warmOnStartup;
+
+    private final Cache<Long, UserIndex> indexes;
+    // Bumped on every mutation so a load that raced with a write is never installed
+    private final Map<Long, AtomicLong> mutationStamps = new ConcurrentHashMap<>();
+
+    public TaskSearchIndex(TodoRepository todoRepository, UserRepository userRepository,
+                           @Value("${app.search.index.enabled:true}") boolean enabled,
+                           @Value("${app.search.index.max-documents:1000000}") long maxDocuments,
+                           @Value("${app.search.index.ttl:5m}") Duration ttl,
+                           @Value("${app.search.index.warm-on-startup:false}") boolean warmOnStartup) {
+        this.todoRepository = todoRepository;
+        this.userRepository = userRepository;
+        this.enabled = enabled;
+        this.warmOnStartup = warmOnStartup;
+        this.indexes = Caffeine.newBuilder()
+                .maximumWeight(maxDocuments)
+                .weigher((Long userId, UserIndex index) -> Math.max(1, index.size()))
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!enabled || !warmOnStartup) {
+            return;
+        }
+        long started = System.nanoTime();
+        List<User> users = userRepository.findAll();
+        users.forEach(user -> indexFor(user.getId()));
+        logger.info("Search index warmed for {} users in {} ms", users.size(), (System.nanoTime() - started) / 1_000_000);
+    }
+
+    // Ids of the user's tasks matching every query term, best matches first
+    public List<Long> search(Long userId, String query) {
+        return searchRanked(userId, query).stream().map(Hit::taskId).toList();
+    }
+
+    // The same matches with their scores: score descending, then id ascending
+    public List<Hit> searchRanked(Long userId, String query) {
+        List<String> terms = new ArrayList<>(new LinkedHashSet<>(tokenize(query)));
+        if (terms.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return indexFor(userId).search(terms);
+    }
+
+    public void onTaskSaved(Long userId, Long taskId, String title, String description) {
+        afterCommit(userId, index -> {
+            index.put(taskId, title, description);
+            return true;
+        });
+    }
+
+    // Partial update: a null title or description keeps the indexed text. An index that does not know
+    // the task is out of date, so it is dropped and reloaded on the next search.
+    public void onTaskPatched(Long userId, Long taskId, String title, String description) {
+        afterCommit(userId, index -> index.patch(taskId, title, description));
+    }
+
+    public void onTaskDeleted(Long userId, Long taskId) {
+        afterCommit(userId, index -> {
+            index.remove(taskId);
+            return true;
+        });
+    }
+
+    // For writes that cannot say which tasks changed; the user's index is reloaded on the next search
+    public void invalidate(Long userId) {
+        afterCommit(userId, index -> false);
+    }
+
+    // Runs the update once the surrounding transaction commits, or straight away outside one. The update returns
+    // false when the index can no longer be kept current, which drops it.
+    private void afterCommit(Long userId, Predicate<UserIndex> update) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(userId, update);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(userId, update);
+            }
+        });
+    }
+
+    // The stamp moves first: a load that installs its index after this point sees it and removes the index again
+    private void apply(Long userId, Predicate<UserIndex> update) {
+        recordMutation(userId);
+        UserIndex index = indexes.getIfPresent(userId);
+        if (index != null && !update.test(index)) {
+            indexes.asMap().remove(userId, index);
+        }
+    }
+
+    private UserIndex indexFor(Long userId) {
+        UserIndex index = indexes.getIfPresent(userId);
+        if (index != null) {
+            return index;
+        }
+
+        long stamp = currentStamp(userId);
+        UserIndex loaded = new UserIndex();
+        for (TaskTextView view : todoRepository.findTextViewsByUserId(userId)) {
+            loaded.put(view.getId(), view.getTitle(), view.getDescription());
+        }
+        logger.debug("Loaded search index for user {} with {} tasks", userId, loaded.size());
+
+        if (currentStamp(userId) == stamp) {
+            UserIndex existing = indexes.asMap().putIfAbsent(userId, loaded);
+            if (existing != null) {
+                return existing;
+            }
+            // A write that slipped in after the check would have missed this index, so drop it again
+            if (currentStamp(userId) != stamp) {
+                indexes.asMap().remove(userId, loaded);
+            }
+        }
+        return loaded;
+    }
+
+    private void recordMutation(Long userId) {
+        mutationStamps.computeIfAbsent(userId, id -> new AtomicLong()).incrementAndGet();
+    }
+
+    private long currentStamp(Long userId) {
+        AtomicLong stamp = mutationStamps.get(userId);
+        return stamp == null ? 0 : stamp.get();
+    }
+
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return Collections.emptyList();
+        }
+        return Arrays.stream(WORD_SEPARATOR.split(text.toLowerCase()))
+                .filter(token -> !token.isEmpty())
+                .toList();
+    }
+
+    private static Set<String> trigrams(String word) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= word.length(); i++) {
+            grams.add(word.substring(i, i + GRAM_LENGTH));
+        }
+        return grams;
+    }
+
+    public record Hit(Long taskId, int score) {
+    }
+
+    private record Document(String title, String description, Set<String> titleWords, Set<String> grams) {
+
+        static Document of(String title, String description) {
+            List<String> titleTokens = tokenize(title);
+            Set<String> grams = new HashSet<>();
+            titleTokens.forEach(word -> grams.addAll(trigrams(word)));
+            tokenize(description).forEach(word -> grams.addAll(trigrams(word)));
+            return new Document(lowerOrEmpty(title), lowerOrEmpty(description), new HashSet<>(titleTokens), grams);
+        }
+
+        private static String lowerOrEmpty(String value) {
+            return value == null ? "" : value.toLowerCase();
+        }
+
+        // Title hits outrank description hits, and a whole-word title hit ranks highest
+        int score(List<String> terms) {
+            int score = 0;
+            for (String term : terms) {
+                boolean inTitle = title.contains(term);
+                boolean inDescription = description.contains(term);
+                if (!inTitle && !inDescription) {
+                    return 0;
+                }
+                score += (inTitle ? 2 : 0) + (inDescription ? 1 : 0) + (titleWords.contains(term) ? 1 : 0);
+            }
+            return score;
+        }
+    }
+
+    private static final class UserIndex {
+
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+        private final Map<Long, Document> documents = new HashMap<>();
+        private final Map<String, Set<Long>> postings = new HashMap<>();
+
+        int size() {
+            lock.readLock().lock();
+            try {
+                return documents.size();
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        void put(Long taskId, String title, String description) {
+            Document document = Document.of(title, description);
+            lock.writeLock().lock();
+            try {
+                removeLocked(taskId);
+                documents.put(taskId, document);
+                document.grams().forEach(gram -> postings.computeIfAbsent(gram, key -> new HashSet<>()).add(taskId));
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        boolean patch(Long taskId, String title, String description) {
+            lock.writeLock().lock();
+            try {
+                Document previous = documents.get(taskId);
+                if (previous == null) {
+                    return false;
+                }
+                Document document = Document.of(title != null ? title : previous.title(),
+                        description != null ? description : previous.description());
+                removeLocked(taskId);
+                documents.put(taskId, document);
+                document.grams().forEach(gram -> postings.computeIfAbsent(gram, key -> new HashSet<>()).add(taskId));
+                return true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        void remove(Long taskId) {
+            lock.writeLock().lock();
+            try {
+                removeLocked(taskId);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        private void removeLocked(Long taskId) {
+            Document previous = documents.remove(taskId);
+            if (previous == null) {
+                return;
+            }
+            for (String gram : previous.grams()) {
+                Set<Long> ids = postings.get(gram);
+                if (ids != null && ids.remove(taskId) && ids.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+
+        List<Hit> search(List<String> terms) {
+            lock.readLock().lock();
+            try {
+                Collection<Long> candidates = null;
+                for (String term : terms) {
+                    if (term.length() < GRAM_LENGTH) {
+                        continue;
+                    }
+                    Set<Long> termCandidates = candidatesFor(term);
+                    if (candidates == null) {
+                        candidates = termCandidates;
+                    } else {
+                        candidates.retainAll(termCandidates);
+                    }
+                    if (candidates.isEmpty()) {
+                        return Collections.emptyList();
+                    }
+                }
+                // Terms shorter than a trigram cannot use the postings, so they are checked against every document
+                if (candidates == null) {
+                    candidates = documents.keySet();
+                }
+
+                List<Hit> ranked = new ArrayList<>();
+                for (Long taskId : candidates) {
+                    int score = documents.get(taskId).score(terms);
+                    if (score > 0) {
+                        ranked.add(new Hit(taskId, score));
+                    }
+                }
+                ranked.sort(Comparator.comparingInt(Hit::score).reversed().thenComparing(Hit::taskId));
+                return ranked;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        // Tasks containing every trigram of the term; verified against the raw text when scoring
+        private Set<Long> candidatesFor(String term) {
+            List<Set<Long>> lists = new ArrayList<>();
+            for (String gram : trigrams(term)) {
+                Set<Long> ids = postings.get(gram);
+                if (ids == null) {
+                    return new HashSet<>();
+                }
+                lists.add(ids);
+            }
+            lists.sort(Comparator.comparingInt(Set::size));
+            Set<Long> result = new HashSet<>(lists.get(0));
+            for (int i = 1; i < lists.size() && !result.isEmpty(); i++) {
+                result.retainAll(lists.get(i));
+            }
+            return result;
+        }
+    }
+}
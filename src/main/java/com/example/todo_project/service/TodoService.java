@@ -1,5 +1,10 @@
 package com.example.todo_project.service;
 
+import com.example.todo_project.dto.AgendaDTO;
+import com.example.todo_project.dto.BatchItemResultDTO;
+import com.example.todo_project.dto.RankedTaskSlice;
+import com.example.todo_project.dto.TaskTextView;
+import com.example.todo_project.dto.TodoPatchDTO;
 import com.example.todo_project.dto.TodoResponseDTO;
 import com.example.todo_project.dto.UserDTO;
 import com.example.todo_project.entity.Priority;
@@ -10,12 +15,40 @@ import org.slf4j.LoggerFactory;
 import com.example.todo_project.exception.ApplicationException;
 import com.example.todo_project.repository.TodoRepository;
 import com.example.todo_project.repository.UserRepository;
+import com.example.todo_project.utils.TaskCursor;
+import com.example.todo_project.utils.TaskExportFormat;
+import org.hibernate.exception.ConstraintViolationException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.DateTimeException;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Stream;
 
 
 
@@ -24,51 +57,60 @@ public class TodoService {
 
     private final TodoRepository todoRepository;
     private final UserRepository userRepository;
+    private final TaskSearchIndex taskSearchIndex;
+    private final DataVersionService dataVersionService;
+    private final Duration exportMaxDuration;
     private static final Logger logger = LoggerFactory.getLogger(TodoService.class);
 
+    private static final String TITLE_CONSTRAINT = "ux_todo_user_title";
+    private static final int MAX_BATCH_SIZE = 1000;
+    private static final int EXPORT_FLUSH_INTERVAL = 100;
+    private static final int MAX_AGENDA_DAYS = 90;
+    private static final int MAX_AGENDA_TASKS = 1000;
+
     @Autowired
-    public TodoService(TodoRepository todoRepository, UserRepository userRepository) {
+    public TodoService(TodoRepository todoRepository, UserRepository userRepository, TaskSearchIndex taskSearchIndex,
+                       DataVersionService dataVersionService,
+                       @Value("${app.export.max-duration:2m}") Duration exportMaxDuration) {
         this.todoRepository = todoRepository;
         this.userRepository = userRepository;
+        this.taskSearchIndex = taskSearchIndex;
+        this.dataVersionService = dataVersionService;
+        this.exportMaxDuration = exportMaxDuration;
     }
 
+    @Transactional
     public TodoResponseDTO createTask(Todo task, String email) {
         logger.debug("Creating task: {}", task);
         User user = getUser(email);
 
-        if (taskExists(task, user)) {
-            logger.warn("Task already exists for user: {}", email);
-            throw new ApplicationException.TaskAlreadyExistsException("Task already exists for this user. Please modify the task details or check your tasks list");
-        }
-
+        // Title uniqueness is enforced by the ux_todo_user_title index rather than a racy pre-check; flushing here
+        // surfaces a duplicate before the data version is bumped at commit
         task.setUser(user);
-        Todo createdTask = todoRepository.save(task);
+        Todo createdTask;
+        try {
+            createdTask = todoRepository.saveAndFlush(task);
+        } catch (DataIntegrityViolationException e) {
+            throw translateDuplicateTitle(e, email);
+        }
         logger.info("Task created successfully: {}", createdTask);
+        taskSearchIndex.onTaskSaved(user.getId(), createdTask.getId(), createdTask.getTitle(), createdTask.getDescription());
+        dataVersionService.bump(user.getId());
 
-        UserDTO userDTO = new UserDTO(user.getId(), user.getEmail(), user.getName(), user.getRole());
-
-        return new TodoResponseDTO(
-                createdTask.getId(),
-                createdTask.getTitle(),
-                createdTask.getDescription(),
-                createdTask.getPriority(),
-                createdTask.getDueDate(),
-                createdTask.isCompleted(),
-                userDTO
-        );
+        return convertToDTO(createdTask);
     }
 
     // Get all tasks for the authenticated user
-    public Page<TodoResponseDTO> getAllTasks(String email, Pageable pageable) {
+    public Slice<TodoResponseDTO> getAllTasks(String email, Pageable pageable) {
         logger.debug("Fetching all tasks for user: {}", email);
-        Page<Todo> todos = todoRepository.findAllByUserEmail(email, pageable);
+        Slice<TodoResponseDTO> todos = todoRepository.findDtosByUserEmail(email, pageable);
 
         if (todos.isEmpty()) {
             logger.info("No tasks found for user: {}", email);
             return Page.empty();
         }
 
-        return todos.map(this::convertToDTO);
+        return todos;
     }
 
 
@@ -76,11 +118,15 @@ public class TodoService {
     public TodoResponseDTO getTaskById(Long id, String email) {
         logger.debug("Fetching task with id: {} for user: {}", id, email);
         User user = getUser(email);
-        Todo todo = findTaskByIdAndUser(id, user);
-        return convertToDTO(todo);
+        return todoRepository.findDtoByIdAndUser(id, user)
+                .orElseThrow(() -> {
+                    logger.error("Todo not found with id: {} for user: {}", id, user.getEmail());
+                    return new ApplicationException.TodoNotFoundException("Todo not found");
+                });
     }
 
     // Update a task
+    @Transactional
     public Todo updateTask(Long id, Todo updatedTodo, String email) {
         logger.debug("Updating task with id: {} for user: {}", id, email);
         User user = getUser(email);
@@ -96,85 +142,520 @@ public class TodoService {
             throw new ApplicationException.UnauthorizedAccessException("You are not allowed to update this todo.");
         }
 
-        existingTodo.setTitle(updatedTodo.getTitle());
-        existingTodo.setDescription(updatedTodo.getDescription());
-        existingTodo.setPriority(updatedTodo.getPriority());
-        existingTodo.setDueDate(updatedTodo.getDueDate());
-        existingTodo.setCompleted(updatedTodo.isCompleted());
+        applyUpdate(existingTodo, updatedTodo);
 
-        Todo updatedTask = todoRepository.save(existingTodo);
+        Todo updatedTask;
+        try {
+            updatedTask = todoRepository.saveAndFlush(existingTodo);
+        } catch (DataIntegrityViolationException e) {
+            throw translateDuplicateTitle(e, email);
+        }
         logger.info("Task updated successfully: {}", updatedTask);
+        taskSearchIndex.onTaskSaved(user.getId(), updatedTask.getId(), updatedTask.getTitle(), updatedTask.getDescription());
+        dataVersionService.bump(user.getId());
         return updatedTask;
     }
 
-    // Delete a task
+    // Partial update: one UPDATE touching only the supplied columns, scoped to the user's own task
+    @Transactional
+    public void patchTask(Long id, TodoPatchDTO patch, String email) {
+        logger.debug("Patching task with id: {} for user: {}", id, email);
+        if (patch == null || patch.isEmpty()) {
+            throw new ApplicationException.InvalidRequestException("No fields to update.");
+        }
+        User user = getUser(email);
+
+        int matched;
+        try {
+            matched = todoRepository.patchByIdAndUser(id, user, patch);
+        } catch (DataIntegrityViolationException e) {
+            throw translateDuplicateTitle(e, email);
+        }
+        if (matched == 0) {
+            logger.error("Todo not found with id: {} for user: {}", id, email);
+            throw new ApplicationException.TodoNotFoundException("Todo not found");
+        }
+        if (patch.getTitle() != null || patch.getDescription() != null) {
+            taskSearchIndex.onTaskPatched(user.getId(), id, patch.getTitle(), patch.getDescription());
+        }
+        dataVersionService.bump(user.getId());
+        logger.info("Task patched successfully with id: {}", id);
+    }
+
+    // Delete a task: a single DELETE ... WHERE id = ? AND user_id = ?, so a task owned by someone else reads as not found
+    @Transactional
     public void deleteTask(Long id, String email) {
         logger.debug("Deleting task with id: {} for user: {}", id, email);
         User user = getUser(email);
-        Todo task = findTaskByIdAndUser(id, user);
-
-        // Ensure the task belongs to the user
-        if (!task.getUser().getId().equals(user.getId())) {
-            logger.error("Unauthorized access attempt for task id: {} by user: {}", id, email);
-            throw new ApplicationException.UnauthorizedAccessException("You are not allowed to delete this todo.");
+        if (todoRepository.deleteByIdAndUser(id, user) == 0) {
+            logger.error("Todo not found with id: {} for user: {}", id, email);
+            throw new ApplicationException.TodoNotFoundException("Todo not found");
         }
-        todoRepository.delete(task);
+        taskSearchIndex.onTaskDeleted(user.getId(), id);
+        dataVersionService.bump(user.getId());
         logger.info("Task deleted successfully with id: {}", id);
     }
 
+    // Delete every completed task of the user in one statement
+    @Transactional
+    public int deleteCompletedTasks(String email) {
+        logger.debug("Deleting completed tasks for user: {}", email);
+        User user = getUser(email);
+        int deleted = todoRepository.deleteCompletedByUser(user);
+        if (deleted > 0) {
+            taskSearchIndex.invalidate(user.getId());
+            dataVersionService.bump(user.getId());
+        }
+        logger.info("Deleted {} completed tasks for user: {}", deleted, email);
+        return deleted;
+    }
+
+    // Batch endpoints: ownership and title checks run as one query per batch, and the writes
+    // go out as JDBC batches when the transaction flushes. Entries that fail a check are reported
+    // in their result and skipped; the remaining entries are still written.
+
+    @Transactional
+    public List<BatchItemResultDTO> createTasks(List<Todo> tasks, String email) {
+        logger.debug("Creating {} tasks in batch for user: {}", tasks.size(), email);
+        checkBatchSize(tasks);
+        User user = getUser(email);
+
+        Set<String> takenTitles = new HashSet<>();
+        findTitleHolders(user, tasks).forEach(view -> takenTitles.add(titleKey(view.getTitle())));
+
+        BatchItemResultDTO[] results = new BatchItemResultDTO[tasks.size()];
+        List<Todo> accepted = new ArrayList<>();
+        List<Integer> acceptedIndexes = new ArrayList<>();
+        for (int i = 0; i < tasks.size(); i++) {
+            Todo task = tasks.get(i);
+            if (task == null) {
+                results[i] = new BatchItemResultDTO(i, null, HttpStatus.BAD_REQUEST.value(), "Task is required.", null);
+            } else if (task.getTitle() != null && !takenTitles.add(titleKey(task.getTitle()))) {
+                results[i] = new BatchItemResultDTO(i, null, HttpStatus.CONFLICT.value(), "Task already exists for this user.", null);
+            } else {
+                task.setId(0);
+                task.setUser(user);
+                accepted.add(task);
+                acceptedIndexes.add(i);
+            }
+        }
+
+        List<Todo> saved;
+        try {
+            saved = todoRepository.saveAllAndFlush(accepted);
+        } catch (DataIntegrityViolationException e) {
+            throw translateDuplicateTitle(e, email);
+        }
+        for (int i = 0; i < saved.size(); i++) {
+            Todo task = saved.get(i);
+            int index = acceptedIndexes.get(i);
+            results[index] = new BatchItemResultDTO(index, task.getId(), HttpStatus.CREATED.value(), "Task created.", convertToDTO(task));
+            taskSearchIndex.onTaskSaved(user.getId(), task.getId(), task.getTitle(), task.getDescription());
+        }
+        if (!saved.isEmpty()) {
+            dataVersionService.bump(user.getId());
+        }
+        logger.info("Batch create for user: {} saved {} of {} tasks", email, saved.size(), tasks.size());
+        return Arrays.asList(results);
+    }
+
+    @Transactional
+    public List<BatchItemResultDTO> updateTasks(List<Todo> tasks, String email) {
+        logger.debug("Updating {} tasks in batch for user: {}", tasks.size(), email);
+        checkBatchSize(tasks);
+        User user = getUser(email);
+
+        List<Long> ids = tasks.stream().filter(Objects::nonNull).map(Todo::getId).toList();
+        Map<Long, Todo> owned = new HashMap<>();
+        if (!ids.isEmpty()) {
+            todoRepository.findAllByUserAndIdIn(user, ids).forEach(todo -> owned.put(todo.getId(), todo));
+        }
+        Map<String, Long> titleHolders = new HashMap<>();
+        findTitleHolders(user, tasks).forEach(view -> titleHolders.put(titleKey(view.getTitle()), view.getId()));
+
+        BatchItemResultDTO[] results = new BatchItemResultDTO[tasks.size()];
+        List<Todo> accepted = new ArrayList<>();
+        List<Integer> acceptedIndexes = new ArrayList<>();
+        Set<Long> seen = new HashSet<>();
+        for (int i = 0; i < tasks.size(); i++) {
+            Todo task = tasks.get(i);
+            Todo existing = task == null ? null : owned.get(task.getId());
+            if (task == null) {
+                results[i] = new BatchItemResultDTO(i, null, HttpStatus.BAD_REQUEST.value(), "Task is required.", null);
+            } else if (existing == null) {
+                results[i] = new BatchItemResultDTO(i, task.getId(), HttpStatus.NOT_FOUND.value(), "Todo not found", null);
+            } else if (!seen.add(existing.getId())) {
+                results[i] = new BatchItemResultDTO(i, task.getId(), HttpStatus.BAD_REQUEST.value(), "Task appears more than once in this batch.", null);
+            } else if (task.getTitle() != null && !claimTitle(titleHolders, task.getTitle(), existing.getId())) {
+                results[i] = new BatchItemResultDTO(i, task.getId(), HttpStatus.CONFLICT.value(), "Task already exists for this user.", null);
+            } else {
+                applyUpdate(existing, task);
+                accepted.add(existing);
+                acceptedIndexes.add(i);
+            }
+        }
+
+        // The loaded entities are managed, so the flush turns their changes into batched UPDATEs
+        try {
+            todoRepository.flush();
+        } catch (DataIntegrityViolationException e) {
+            throw translateDuplicateTitle(e, email);
+        }
+        for (int i = 0; i < accepted.size(); i++) {
+            Todo task = accepted.get(i);
+            int index = acceptedIndexes.get(i);
+            results[index] = new BatchItemResultDTO(index, task.getId(), HttpStatus.OK.value(), "Task updated.", convertToDTO(task));
+            taskSearchIndex.onTaskSaved(user.getId(), task.getId(), task.getTitle(), task.getDescription());
+        }
+        if (!accepted.isEmpty()) {
+            dataVersionService.bump(user.getId());
+        }
+        logger.info("Batch update for user: {} updated {} of {} tasks", email, accepted.size(), tasks.size());
+        return Arrays.asList(results);
+    }
+
+    @Transactional
+    public List<BatchItemResultDTO> deleteTasks(List<Long> ids, String email) {
+        logger.debug("Deleting {} tasks in batch for user: {}", ids.size(), email);
+        checkBatchSize(ids);
+        User user = getUser(email);
+
+        List<Long> requested = ids.stream().filter(Objects::nonNull).toList();
+        Set<Long> owned = requested.isEmpty() ? Collections.emptySet() : new HashSet<>(todoRepository.findIdsByUserAndIdIn(user, requested));
+
+        BatchItemResultDTO[] results = new BatchItemResultDTO[ids.size()];
+        Set<Long> deleted = new LinkedHashSet<>();
+        for (int i = 0; i < ids.size(); i++) {
+            Long id = ids.get(i);
+            if (id == null) {
+                results[i] = new BatchItemResultDTO(i, null, HttpStatus.BAD_REQUEST.value(), "Task id is required.", null);
+            } else if (!owned.contains(id)) {
+                results[i] = new BatchItemResultDTO(i, id, HttpStatus.NOT_FOUND.value(), "Todo not found", null);
+            } else if (!deleted.add(id)) {
+                results[i] = new BatchItemResultDTO(i, id, HttpStatus.BAD_REQUEST.value(), "Task appears more than once in this batch.", null);
+            } else {
+                results[i] = new BatchItemResultDTO(i, id, HttpStatus.OK.value(), "Task deleted.", null);
+            }
+        }
+
+        // A single DELETE ... WHERE id IN (...) for every owned id
+        if (!deleted.isEmpty()) {
+            todoRepository.deleteAllByIdInBatch(deleted);
+            deleted.forEach(id -> taskSearchIndex.onTaskDeleted(user.getId(), id));
+            dataVersionService.bump(user.getId());
+        }
+        logger.info("Batch delete for user: {} deleted {} of {} tasks", email, deleted.size(), ids.size());
+        return Arrays.asList(results);
+    }
+
+    // Bulk state transitions run as a single UPDATE scoped to the user's own tasks. Ids that are missing,
+    // belong to someone else or already have the target value are skipped and not counted.
+
+    @Transactional
+    public int setCompletion(List<Long> ids, boolean completed, String email) {
+        List<Long> taskIds = bulkIds(ids);
+        logger.debug("Setting completed={} on {} tasks for user: {}", completed, taskIds.size(), email);
+        User user = getUser(email);
+        int affected = taskIds.isEmpty() ? 0 : todoRepository.updateCompletedByUserAndIdIn(user, taskIds, completed);
+        bumpIfChanged(user, affected);
+        logger.info("Set completed={} on {} tasks for user: {}", completed, affected, email);
+        return affected;
+    }
+
+    @Transactional
+    public int completeTasksDueBefore(LocalDate date, String email) {
+        logger.debug("Completing tasks due before {} for user: {}", date, email);
+        if (date == null) {
+            throw new ApplicationException.InvalidRequestException("A due date is required.");
+        }
+        User user = getUser(email);
+        int affected = todoRepository.completeByUserAndDueDateBefore(user, date);
+        bumpIfChanged(user, affected);
+        logger.info("Completed {} tasks due before {} for user: {}", affected, date, email);
+        return affected;
+    }
+
+    @Transactional
+    public int setPriority(List<Long> ids, Priority priority, String email) {
+        if (priority == null) {
+            throw new ApplicationException.InvalidRequestException("A priority is required.");
+        }
+        List<Long> taskIds = bulkIds(ids);
+        logger.debug("Setting priority {} on {} tasks for user: {}", priority, taskIds.size(), email);
+        User user = getUser(email);
+        int affected = taskIds.isEmpty() ? 0 : todoRepository.updatePriorityByUserAndIdIn(user, taskIds, priority);
+        bumpIfChanged(user, affected);
+        logger.info("Set priority {} on {} tasks for user: {}", priority, affected, email);
+        return affected;
+    }
+
+    // Streams every task of the user to `out`. The read-only transaction keeps the database cursor open while
+    // rows are written, so neither side ever holds more than a fetch-size chunk of tasks.
+    @Transactional(readOnly = true)
+    public int exportTasks(String email, TaskExportFormat format, OutputStream out) throws IOException {
+        logger.debug("Exporting tasks as {} for user: {}", format, email);
+        User user = getUser(email);
+        int exported = 0;
+        // The stream holds a pooled connection and a bulkhead permit until it is closed, so a slow reader is cut
+        // off after app.export.max-duration rather than the much longer async request timeout
+        long deadline = System.nanoTime() + exportMaxDuration.toNanos();
+        try (Stream<TodoResponseDTO> tasks = todoRepository.streamDtosByUser(user);
+             TaskExportFormat.RowWriter writer = format.open(out)) {
+            Iterator<TodoResponseDTO> iterator = tasks.iterator();
+            while (iterator.hasNext()) {
+                writer.write(iterator.next());
+                if (++exported % EXPORT_FLUSH_INTERVAL == 0) {
+                    writer.flush();
+                    if (System.nanoTime() - deadline > 0) {
+                        logger.warn("Aborted export for user: {} after {} tasks, exceeded {}", email, exported, exportMaxDuration);
+                        throw new IOException("Export exceeded " + exportMaxDuration);
+                    }
+                }
+            }
+        }
+        logger.info("Exported {} tasks as {} for user: {}", exported, format, email);
+        return exported;
+    }
+
     // Get tasks by completion status
-    public Page<TodoResponseDTO> getTasksByCompletion(String email, boolean completed, Pageable pageable) {
+    public Slice<TodoResponseDTO> getTasksByCompletion(String email, boolean completed, Pageable pageable) {
         logger.debug("Fetching tasks for user: {} with completion status: {}", email, completed);
         User user = getUser(email);
-        Page<Todo> todos = todoRepository.findByUserAndCompleted(user, completed, pageable);
+        Slice<TodoResponseDTO> todos = todoRepository.findDtosByUserAndCompleted(user, completed, pageable);
 
         if (todos.isEmpty()) {
             logger.info("No tasks found for user: {} with completion status: {}", email, completed);
             return Page.empty();
         }
 
-        return todos.map(this::convertToDTO);
+        return todos;
     }
 
     // Get tasks by priority
-    public Page<TodoResponseDTO> getTasksByPriority(String email, Priority priority, Pageable pageable) {
+    public Slice<TodoResponseDTO> getTasksByPriority(String email, Priority priority, Pageable pageable) {
         logger.debug("Fetching tasks for user: {} with priority: {}", email, priority);
         User user = getUser(email);
-        Page<Todo> todos = todoRepository.findByUserAndPriority(user, priority, pageable);
+        Slice<TodoResponseDTO> todos = todoRepository.findDtosByUserAndPriority(user, priority, pageable);
 
         if (todos.isEmpty()) {
             logger.info("No tasks found for user: {} with priority: {}", email, priority);
             return Page.empty();
         }
 
-        return todos.map(this::convertToDTO);
+        return todos;
     }
 
     // Get tasks by task title
-    public Page<TodoResponseDTO> searchTasksByTitle(String email, String title, Pageable pageable) {
+    public Slice<TodoResponseDTO> searchTasksByTitle(String email, String title, Pageable pageable) {
         logger.debug("Searching tasks for user: {} with title containing: {}", email, title);
-        Page<Todo> todos = todoRepository.findByUserEmailAndTitleContainingIgnoreCase(email, title, pageable);
+        if (taskSearchIndex.isEnabled()) {
+            return searchIndexed(getUser(email), title, pageable);
+        }
+        Slice<TodoResponseDTO> todos = todoRepository.findDtosByUserEmailAndTitleContaining(email, title, pageable);
 
         if (todos.isEmpty()) {
             logger.info("No tasks found for user: {} with title: {}", email, title);
             return Page.empty();
         }
 
-        return todos.map(this::convertToDTO);
+        return todos;
     }
 
     // Get tasks due today for a specific user
-    public Page<TodoResponseDTO> getTasksDueToday(String email, Pageable pageable) {
+    public Slice<TodoResponseDTO> getTasksDueToday(String email, Pageable pageable) {
         logger.debug("Fetching tasks due today for user: {}", email);
         LocalDate today = LocalDate.now();
-        Page<Todo> todos = todoRepository.findByUserEmailAndDueDate(email, today, pageable);
+        Slice<TodoResponseDTO> todos = todoRepository.findDtosByUserEmailAndDueDate(email, today, pageable);
 
         if (todos.isEmpty()) {
             logger.info("No tasks due today for user: {}", email);
             return Page.empty();
         }
 
-        return todos.map(this::convertToDTO);
+        return todos;
+    }
+
+    // Overdue, today and the next `days` days in the client's zone. A null zone means the server's own, which is
+    // what due-today uses. Overdue tasks have no lower bound, so they get a query and a limit of their own; today
+    // and upcoming share the second query and its limit.
+    public AgendaDTO getAgenda(String email, String zone, int days, int limit) {
+        if (days < 0 || days > MAX_AGENDA_DAYS) {
+            throw new ApplicationException.InvalidRequestException("days must be between 0 and " + MAX_AGENDA_DAYS + ".");
+        }
+        if (limit < 1 || limit > MAX_AGENDA_TASKS) {
+            throw new ApplicationException.InvalidRequestException("limit must be between 1 and " + MAX_AGENDA_TASKS + ".");
+        }
+        ZoneId zoneId;
+        try {
+            zoneId = zone == null || zone.isBlank() ? ZoneId.systemDefault() : ZoneId.of(zone);
+        } catch (DateTimeException e) {
+            throw new ApplicationException.InvalidRequestException("Unknown time zone: " + zone);
+        }
+
+        LocalDate today = LocalDate.now(zoneId);
+        LocalDate until = today.plusDays(days);
+        logger.debug("Fetching agenda for user: {} from {} until {} ({})", email, today, until, zoneId);
+        Slice<TodoResponseDTO> late = todoRepository.findOpenDtosByUserEmailDueBefore(email, today, firstPage(limit));
+        Slice<TodoResponseDTO> ahead = todoRepository.findOpenDtosByUserEmailDueBetween(email, today, until, firstPage(limit));
+
+        // Overdue rows arrive latest first; a stable sort puts them back in due-date order, keeping urgency within a day
+        List<TodoResponseDTO> overdue = new ArrayList<>(late.getContent());
+        overdue.sort(Comparator.comparing(TodoResponseDTO::getDueDate));
+        List<TodoResponseDTO> dueToday = new ArrayList<>();
+        List<TodoResponseDTO> upcoming = new ArrayList<>();
+        for (TodoResponseDTO task : ahead) {
+            (task.getDueDate().isEqual(today) ? dueToday : upcoming).add(task);
+        }
+        return new AgendaDTO(zoneId.getId(), today, until, overdue, dueToday, upcoming, late.hasNext() || ahead.hasNext());
+    }
+
+    // Keyset pagination: each method returns the next `size` tasks with an id greater than `afterId`
+
+    public Slice<TodoResponseDTO> getAllTasksAfter(String email, long afterId, int size) {
+        logger.debug("Fetching tasks after id: {} for user: {}", afterId, email);
+        return todoRepository.findDtosByUserEmailAfter(email, afterId, firstPage(size));
+    }
+
+    public Slice<TodoResponseDTO> getTasksByCompletionAfter(String email, boolean completed, long afterId, int size) {
+        logger.debug("Fetching tasks after id: {} for user: {} with completion status: {}", afterId, email, completed);
+        User user = getUser(email);
+        return todoRepository.findDtosByUserAndCompletedAfter(user, completed, afterId, firstPage(size));
+    }
+
+    public Slice<TodoResponseDTO> getTasksByPriorityAfter(String email, Priority priority, long afterId, int size) {
+        logger.debug("Fetching tasks after id: {} for user: {} with priority: {}", afterId, email, priority);
+        User user = getUser(email);
+        return todoRepository.findDtosByUserAndPriorityAfter(user, priority, afterId, firstPage(size));
+    }
+
+    // With the search index this pages through the same ranked matches as offset mode, so the cursor carries
+    // the last hit's score as well as its id; without it, both modes are a title LIKE in id order
+    public Slice<TodoResponseDTO> searchTasksByTitleAfter(String email, String title, String cursor, int size) {
+        logger.debug("Searching tasks after cursor: {} for user: {} with title containing: {}", cursor, email, title);
+        if (!taskSearchIndex.isEnabled()) {
+            return todoRepository.findDtosByUserEmailAndTitleContainingAfter(email, title, TaskCursor.decode(cursor), firstPage(size));
+        }
+        TaskCursor.Ranked after = TaskCursor.decodeRanked(cursor);
+        User user = getUser(email);
+        List<TaskSearchIndex.Hit> ranked = taskSearchIndex.searchRanked(user.getId(), title);
+        int from = 0;
+        if (after != null) {
+            while (from < ranked.size() && !isRankedAfter(ranked.get(from), after)) {
+                from++;
+            }
+        }
+        int to = Math.min(from + size, ranked.size());
+        List<TaskSearchIndex.Hit> hits = ranked.subList(from, to);
+        String nextCursor = hits.isEmpty() ? null : TaskCursor.encodeRanked(hits.get(hits.size() - 1).score(), hits.get(hits.size() - 1).taskId());
+        return new RankedTaskSlice(loadInOrder(user, hits.stream().map(TaskSearchIndex.Hit::taskId).toList()),
+                firstPage(size), to < ranked.size(), nextCursor);
+    }
+
+    public Slice<TodoResponseDTO> getTasksDueTodayAfter(String email, long afterId, int size) {
+        logger.debug("Fetching tasks due today after id: {} for user: {}", afterId, email);
+        return todoRepository.findDtosByUserEmailAndDueDateAfter(email, LocalDate.now(), afterId, firstPage(size));
+    }
+
+    // Totals for clients that explicitly request them; the list queries themselves never count
+
+    public long countAllTasks(String email) {
+        return todoRepository.countByUserEmail(email);
+    }
+
+    public long countTasksByCompletion(String email, boolean completed) {
+        return todoRepository.countByUserAndCompleted(getUser(email), completed);
+    }
+
+    public long countTasksByPriority(String email, Priority priority) {
+        return todoRepository.countByUserAndPriority(getUser(email), priority);
+    }
+
+    public long countTasksByTitle(String email, String title) {
+        if (taskSearchIndex.isEnabled()) {
+            return taskSearchIndex.search(getUser(email).getId(), title).size();
+        }
+        return todoRepository.countByUserEmailAndTitleContainingIgnoreCase(email, title);
+    }
+
+    public long countTasksDueToday(String email) {
+        return todoRepository.countByUserEmailAndDueDate(email, LocalDate.now());
+    }
+
+    // Ranks matches in the search index, then loads only the requested page of DTOs by id
+    private Slice<TodoResponseDTO> searchIndexed(User user, String query, Pageable pageable) {
+        List<Long> ranked = taskSearchIndex.search(user.getId(), query);
+        int from = (int) Math.min(pageable.getOffset(), ranked.size());
+        int to = Math.min(from + pageable.getPageSize(), ranked.size());
+        return new SliceImpl<>(loadInOrder(user, ranked.subList(from, to)), pageable, to < ranked.size());
+    }
+
+    // Search order is score descending, then id ascending
+    private static boolean isRankedAfter(TaskSearchIndex.Hit hit, TaskCursor.Ranked after) {
+        return hit.score() < after.score() || (hit.score() == after.score() && hit.taskId() > after.lastId());
+    }
+
+    // Loads the DTOs of the given ids in that order, skipping any deleted since they were indexed
+    private List<TodoResponseDTO> loadInOrder(User user, List<Long> ids) {
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Map<Long, TodoResponseDTO> byId = new HashMap<>();
+        todoRepository.findDtosByIdInAndUser(ids, user).forEach(dto -> byId.put(dto.getId(), dto));
+        return ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private void applyUpdate(Todo existingTodo, Todo updatedTodo) {
+        existingTodo.setTitle(updatedTodo.getTitle());
+        existingTodo.setDescription(updatedTodo.getDescription());
+        existingTodo.setPriority(updatedTodo.getPriority());
+        existingTodo.setDueDate(updatedTodo.getDueDate());
+        existingTodo.setCompleted(updatedTodo.isCompleted());
+    }
+
+    private void checkBatchSize(List<?> items) {
+        if (items.size() > MAX_BATCH_SIZE) {
+            throw new ApplicationException.InvalidRequestException("A batch may contain at most " + MAX_BATCH_SIZE + " tasks.");
+        }
+    }
+
+    // Bulk updates skip rows that already hold the target value, so zero affected rows means nothing changed
+    private void bumpIfChanged(User user, int affected) {
+        if (affected > 0) {
+            dataVersionService.bump(user.getId());
+        }
+    }
+
+    private List<Long> bulkIds(List<Long> ids) {
+        if (ids == null) {
+            throw new ApplicationException.InvalidRequestException("Task ids are required.");
+        }
+        checkBatchSize(ids);
+        return ids.stream().filter(Objects::nonNull).distinct().toList();
+    }
+
+    // Tasks of the user already holding one of the requested titles
+    private List<TaskTextView> findTitleHolders(User user, List<Todo> tasks) {
+        Set<String> titles = new HashSet<>();
+        tasks.stream().filter(Objects::nonNull).map(Todo::getTitle).filter(Objects::nonNull).forEach(titles::add);
+        return titles.isEmpty() ? Collections.emptyList() : todoRepository.findTextViewsByUserAndTitleIn(user, titles);
+    }
+
+    // Records the task as holder of the title unless a different task already holds it
+    private static boolean claimTitle(Map<String, Long> titleHolders, String title, Long taskId) {
+        Long holder = titleHolders.putIfAbsent(titleKey(title), taskId);
+        return holder == null || holder.equals(taskId);
+    }
+
+    // MySQL's default collation compares titles case-insensitively, so the in-memory checks do too
+    private static String titleKey(String title) {
+        return title.toLowerCase();
+    }
+
+    private Pageable firstPage(int size) {
+        return PageRequest.of(0, size);
     }
 
 
@@ -187,28 +668,32 @@ public class TodoService {
                 });
     }
 
-    // Check task exit or not
-    private boolean taskExists(Todo task, User user) {
-        logger.debug("Checking if task exists: {} for user: {}", task.getTitle(), user.getEmail());
-        return todoRepository.existsByTitleAndUser(task.getTitle(), user);
+    // Map a violation of the per-user title constraint to TaskAlreadyExistsException; rethrow anything else
+    private RuntimeException translateDuplicateTitle(DataIntegrityViolationException e, String email) {
+        if (!isDuplicateTitle(e)) {
+            return e;
+        }
+        logger.warn("Task already exists for user: {}", email);
+        return new ApplicationException.TaskAlreadyExistsException("Task already exists for this user. Please modify the task details or check your tasks list");
     }
 
-    // Find task by userId
-    private Todo findTaskByIdAndUser(Long id, User user) {
-        return todoRepository.findByIdAndUser(id, user)
-                .orElseThrow(() -> {
-                    logger.error("Todo not found with id: {} for user: {}", id, user.getEmail());
-                    return new ApplicationException.TodoNotFoundException("Todo not found");
-                });
+    static boolean isDuplicateTitle(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                return violation.getConstraintName().toLowerCase().contains(TITLE_CONSTRAINT);
+            }
+        }
+        String message = e.getMostSpecificCause().getMessage();
+        return message != null && message.toLowerCase().contains(TITLE_CONSTRAINT);
     }
 
-    //  Method to convert Task to TaskDTO
-    private TodoResponseDTO convertToDTO(Todo task) {
+    //  Method to convert Task to TaskDTO; package-private for TodoServiceBenchmark
+    TodoResponseDTO convertToDTO(Todo task) {
         User user = task.getUser();
         UserDTO userDTO = new UserDTO(
                 user.getId(),
-                user.getEmail(),
                 user.getName(),
+                user.getEmail(),
                 user.getRole()
         );
 
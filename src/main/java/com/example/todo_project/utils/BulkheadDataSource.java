@@ -0,0 +1,128 @@
+package com.example.todo_project.utils;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Caps how many callers may hold a connection at once. With requests on virtual threads there can be
+ * thousands in flight; the extra ones wait on a fair semaphore, which parks a virtual thread for free,
+ * rather than piling into the pool's own wait queue. A caller that cannot get a permit within the
+ * acquire timeout fails fast with SQLTransientConnectionException.
+ * <p>
+ * A permit stands for a caller, not for a connection. Some callers briefly need a second connection while
+ * holding their first - Hibernate's table generator fetches a new id block on an isolated connection - and
+ * if that second connection also needed a permit, a full bulkhead would have every holder waiting on itself.
+ * A thread that already holds a permit therefore takes further connections straight from the pool. For that
+ * to always succeed the pool must be larger than the permit count; DataSourceConfig keeps the difference.
+ */
+public class BulkheadDataSource extends DelegatingDataSource {
+
+    private final Semaphore permits;
+    private final int maxConcurrent;
+    private final long acquireTimeoutNanos;
+
+    // Connections the current thread holds from this bulkhead; the thread holds one permit while this is above zero
+    private final ThreadLocal<AtomicInteger> held = ThreadLocal.withInitial(AtomicInteger::new);
+
+    public BulkheadDataSource(DataSource target, int maxConcurrent, Duration acquireTimeout) {
+        super(target);
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.maxConcurrent = maxConcurrent;
+        this.acquireTimeoutNanos = acquireTimeout.toNanos();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        AtomicInteger count = acquire();
+        try {
+            return releasingOnClose(super.getConnection(), count);
+        } catch (SQLException | RuntimeException e) {
+            release(count);
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        AtomicInteger count = acquire();
+        try {
+            return releasingOnClose(super.getConnection(username, password), count);
+        } catch (SQLException | RuntimeException e) {
+            release(count);
+            throw e;
+        }
+    }
+
+    public int getMaxConcurrent() {
+        return maxConcurrent;
+    }
+
+    public int getAvailablePermits() {
+        return permits.availablePermits();
+    }
+
+    public int getQueueLength() {
+        return permits.getQueueLength();
+    }
+
+    // Returns the calling thread's count, which each connection carries so it can be closed on any thread
+    private AtomicInteger acquire() throws SQLException {
+        AtomicInteger count = held.get();
+        for (int current = count.get(); current > 0; current = count.get()) {
+            if (count.compareAndSet(current, current + 1)) {
+                return count;
+            }
+        }
+        try {
+            if (!permits.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS)) {
+                throw new SQLTransientConnectionException("Database bulkhead full: " + maxConcurrent
+                        + " connections in use and " + permits.getQueueLength() + " callers waiting");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for a database connection", e);
+        }
+        count.set(1);
+        return count;
+    }
+
+    private void release(AtomicInteger count) {
+        if (count.decrementAndGet() == 0) {
+            permits.release();
+        }
+    }
+
+    // Each handed-out connection counts down exactly once, on its first close()
+    private Connection releasingOnClose(Connection connection, AtomicInteger count) {
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("close") && method.getParameterCount() == 0) {
+                        try {
+                            connection.close();
+                        } finally {
+                            if (released.compareAndSet(false, true)) {
+                                release(count);
+                            }
+                        }
+                        return null;
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+    }
+}
@@ -1,11 +1,14 @@
 package com.example.todo_project.utils;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -24,10 +27,13 @@ public class JwtRequestFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
     private final UserDetailsService userDetailsService;
+    private final boolean statelessAuth;
 
-    public JwtRequestFilter(JwtUtil jwtUtil, UserDetailsService userDetailsService) {
+    public JwtRequestFilter(JwtUtil jwtUtil, UserDetailsService userDetailsService,
+                            @Value("${app.security.stateless-auth:true}") boolean statelessAuth) {
         this.jwtUtil = jwtUtil;
         this.userDetailsService = userDetailsService;
+        this.statelessAuth = statelessAuth;
     }
 
     @Override
@@ -41,33 +47,34 @@ public class JwtRequestFilter extends OncePerRequestFilter {
         logger.debug("Authorization header received: {}", authorizationHeader);
 
         String username = null;
-        String jwt = null;
+        Claims claims = null;
 
         if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
-            jwt = authorizationHeader.substring(7);
+            String jwt = authorizationHeader.substring(7);
             logger.debug("Extracted JWT: {}", jwt);
 
-            username = jwtUtil.extractUsername(jwt);
-            logger.debug("Extracted username from JWT: {}", username);
+            try {
+                // Parse and verify once; downstream code reads the claims from the request attribute
+                claims = jwtUtil.extractAllClaims(jwt);
+                request.setAttribute(JwtUtil.CLAIMS_ATTRIBUTE, claims);
+                username = claims.getSubject();
+                logger.debug("Extracted username from JWT: {}", username);
+            } catch (JwtException e) {
+                logger.warn("Rejected JWT for URI {}: {}", requestUri, e.getMessage());
+            }
         }
 
         // Ensure user is not authenticated already
         if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
-            logger.debug("Loaded UserDetails for username: {}", username);
-
-            // Validate the JWT
-            if (jwtUtil.validateToken(jwt, userDetails.getUsername())) {
-                logger.info("JWT validated successfully for user: {}", username);
+            UsernamePasswordAuthenticationToken authenticationToken = statelessAuth ? authenticateFromClaims(claims) : null;
+            if (authenticationToken == null) {
+                authenticationToken = authenticateFromUserDetails(claims, username);
+            }
 
-                UsernamePasswordAuthenticationToken authenticationToken =
-                        new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+            if (authenticationToken != null) {
                 authenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-
                 SecurityContextHolder.getContext().setAuthentication(authenticationToken);
                 logger.debug("Set Authentication in SecurityContext for user: {}", username);
-            } else {
-                logger.warn("JWT validation failed for user: {}", username);
             }
         } else if (username != null) {
             logger.debug("User {} is already authenticated. Skipping re-authentication.", username);
@@ -77,4 +84,28 @@ public class JwtRequestFilter extends OncePerRequestFilter {
         chain.doFilter(request, response);
         logger.debug("Completed processing for URI: {}", requestUri);
     }
+
+    // Stateless mode: the signature already vouches for id, name and role, so no user lookup is needed
+    private UsernamePasswordAuthenticationToken authenticateFromClaims(Claims claims) {
+        AuthenticatedUser principal = jwtUtil.toAuthenticatedUser(claims);
+        if (principal == null) {
+            logger.debug("Token for user {} lacks identity claims, falling back to UserDetailsService", claims.getSubject());
+            return null;
+        }
+        logger.info("JWT validated from claims for user: {}", principal.getEmail());
+        return new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+    }
+
+    private UsernamePasswordAuthenticationToken authenticateFromUserDetails(Claims claims, String username) {
+        UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
+        logger.debug("Loaded UserDetails for username: {}", username);
+
+        // Validate the JWT
+        if (!jwtUtil.validateToken(claims, userDetails.getUsername())) {
+            logger.warn("JWT validation failed for user: {}", username);
+            return null;
+        }
+        logger.info("JWT validated successfully for user: {}", username);
+        return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+    }
 }
@@ -1,17 +1,32 @@
 package com.example.todo_project.utils;
 
 import com.example.todo_project.entity.Role;
+import com.example.todo_project.exception.ApplicationException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import javax.crypto.SecretKey;
+import java.time.Duration;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 @Component
@@ -19,8 +34,57 @@ public class JwtUtil {
 
     private static final Logger logger = LoggerFactory.getLogger(JwtUtil.class);
 
+    // Request attribute under which JwtRequestFilter stores the verified claims of the current request
+    public static final String CLAIMS_ATTRIBUTE = JwtUtil.class.getName() + ".CLAIMS";
+
+    private static final String USER_ID_CLAIM = "uid";
+
     private final String SECRET_KEY = "your-secure-predefined-new-key-here";
-    private final long JWT_EXPIRATION = 86400000;
+
+    // Access tokens are short-lived; clients renew them through /auth/refresh instead of logging in again
+    public static final Duration DEFAULT_ACCESS_TOKEN_TTL = Duration.ofMinutes(15);
+    private final long JWT_EXPIRATION;
+
+    // Key and parser are immutable and thread-safe, so they are built once instead of per call
+    private final SecretKey signingKey = Keys.hmacShaKeyFor(SECRET_KEY.getBytes());
+    private final JwtParser jwtParser = Jwts.parserBuilder().setSigningKey(signingKey).build();
+
+    // Recently verified tokens; every entry is dropped no later than the token's own expiration
+    private final Cache<String, Claims> verifiedTokens;
+
+    // jwt.verify times the signature check on a cache miss; jwt.verify.cache counts how often it was skipped
+    private final Counter cacheHits;
+    private final Counter cacheMisses;
+    private final Timer verifyValid;
+    private final Timer verifyInvalid;
+    private final Timer signTimer;
+
+    public JwtUtil(long verifiedCacheMaxSize) {
+        this(verifiedCacheMaxSize, new SimpleMeterRegistry());
+    }
+
+    public JwtUtil(long verifiedCacheMaxSize, MeterRegistry meterRegistry) {
+        this(verifiedCacheMaxSize, DEFAULT_ACCESS_TOKEN_TTL, meterRegistry);
+    }
+
+    @Autowired
+    public JwtUtil(@Value("${app.jwt.verified-cache.max-size:10000}") long verifiedCacheMaxSize,
+                   @Value("${app.jwt.access-token-ttl:15m}") Duration accessTokenTtl, MeterRegistry meterRegistry) {
+        this.JWT_EXPIRATION = accessTokenTtl.toMillis();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheMaxSize)
+                .expireAfter(new TokenExpiry())
+                .build();
+        this.cacheHits = meterRegistry.counter("jwt.verify.cache", "result", "hit");
+        this.cacheMisses = meterRegistry.counter("jwt.verify.cache", "result", "miss");
+        this.verifyValid = meterRegistry.timer("jwt.verify", "outcome", "valid");
+        this.verifyInvalid = meterRegistry.timer("jwt.verify", "outcome", "invalid");
+        this.signTimer = meterRegistry.timer("jwt.sign");
+    }
+
+    public Duration getAccessTokenTtl() {
+        return Duration.ofMillis(JWT_EXPIRATION);
+    }
 
     public String extractUsername(String token) {
         String username = extractClaim(token, Claims::getSubject);
@@ -33,27 +97,67 @@ public class JwtUtil {
         return claimsResolver.apply(claims);
     }
 
-    private Claims extractAllClaims(String token) {
+    // Returns the verified claims of the token, parsing and checking the signature only on a cache miss
+    public Claims extractAllClaims(String token) {
+        Claims cached = verifiedTokens.getIfPresent(token);
+        if (cached != null && !isExpired(cached)) {
+            cacheHits.increment();
+            return cached;
+        }
+
+        cacheMisses.increment();
+        Claims claims = parseClaims(token);
+        verifiedTokens.put(token, claims);
+        return claims;
+    }
+
+    // The subject of the request's token, for controllers; reuses the claims JwtRequestFilter already verified
+    public String validateTokenAndGetEmail(HttpServletRequest request) {
+        Claims claims = (Claims) request.getAttribute(CLAIMS_ATTRIBUTE);
+        if (claims == null) {
+            String token = request.getHeader("Authorization");
+
+            if (token == null || !token.startsWith("Bearer ")) {
+                throw new ApplicationException.JwtException("Invalid or missing token.");
+            }
+
+            try {
+                claims = extractAllClaims(token.substring(7));
+            } catch (JwtException e) {
+                throw new ApplicationException.JwtException(e.getMessage());
+            }
+        }
+
+        String email = claims.getSubject();
+        if (email == null) {
+            throw new ApplicationException.JwtException("Token validation failed, email not found.");
+        }
+
+        return email;
+    }
+
+    private Claims parseClaims(String token) {
+        long started = System.nanoTime();
         try {
-            return Jwts.parserBuilder()
-                    .setSigningKey(SECRET_KEY.getBytes())
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
+            Claims claims = jwtParser.parseClaimsJws(token).getBody();
+            verifyValid.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+            return claims;
         } catch (Exception e) {
+            verifyInvalid.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
             logger.error("Invalid JWT token: {}", e.getMessage());
             throw new JwtException("Invalid JWT token: " + e.getMessage(), e);
         }
     }
 
 
-    public String generateToken(String name, String email, Role role) {
+    public String generateToken(Long userId, String name, String email, Role role) {
         try {
             Map<String, Object> claims = new HashMap<>();
+            claims.put(USER_ID_CLAIM, userId);
             claims.put("name", name);
             claims.put("role", role.toString());
             logger.debug("Generating JWT token for user: {}, role: {}", email, role);
-            return createToken(claims, email);
+            return signTimer.record(() -> createToken(claims, email));
         } catch (Exception e) {
             logger.error("Error generating JWT token: {}", e.getMessage());
             throw new RuntimeException("Token generation failed", e);
@@ -67,26 +171,61 @@ public class JwtUtil {
                 .setSubject(subject)
                 .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(new Date(System.currentTimeMillis() + JWT_EXPIRATION))
-                .signWith(SignatureAlgorithm.HS256, SECRET_KEY.getBytes())
+                .signWith(signingKey)
                 .compact();
         logger.debug("JWT token created successfully for subject: {}", subject);
         return token;
     }
 
     public Boolean validateToken(String token, String username) {
-        String extractedUsername = extractUsername(token);
-        boolean isValid = extractedUsername.equals(username) && !isTokenExpired(token);
+        return validateToken(extractAllClaims(token), username);
+    }
+
+    // Validates claims that were already verified by extractAllClaims, without touching the token again
+    public Boolean validateToken(Claims claims, String username) {
+        String extractedUsername = claims.getSubject();
+        boolean isValid = extractedUsername.equals(username) && !isExpired(claims);
         logger.info("Token validation result - Username: {}, Valid: {}", extractedUsername, isValid);
         return isValid;
     }
 
-    private Boolean isTokenExpired(String token) {
-        boolean expired = extractExpiration(token).before(new Date());
+    // Builds the principal purely from signed claims; returns null for tokens issued without the id and role claims
+    public AuthenticatedUser toAuthenticatedUser(Claims claims) {
+        Number userId = claims.get(USER_ID_CLAIM, Number.class);
+        String role = claims.get("role", String.class);
+        if (userId == null || role == null || claims.getSubject() == null) {
+            return null;
+        }
+        return new AuthenticatedUser(userId.longValue(), claims.getSubject(), claims.get("name", String.class), Role.valueOf(role));
+    }
+
+    private boolean isExpired(Claims claims) {
+        Date expiration = claims.getExpiration();
+        boolean expired = expiration != null && expiration.before(new Date());
         logger.debug("Token expiration status: {}", expired ? "Expired" : "Not expired");
         return expired;
     }
 
-    private Date extractExpiration(String token) {
-        return extractAllClaims(token).getExpiration();
+    private static final class TokenExpiry implements Expiry<String, Claims> {
+
+        @Override
+        public long expireAfterCreate(String token, Claims claims, long currentTime) {
+            Date expiration = claims.getExpiration();
+            if (expiration == null) {
+                return Long.MAX_VALUE;
+            }
+            long remainingMillis = Math.max(0, expiration.getTime() - System.currentTimeMillis());
+            return TimeUnit.MILLISECONDS.toNanos(remainingMillis);
+        }
+
+        @Override
+        public long expireAfterUpdate(String token, Claims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(token, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String token, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
 }
@@ -0,0 +1,276 @@
+package com.example.todo_project.utils;
+
+import com.example.todo_project.dto.CommonApiResponse;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-user request budgets, applied in the security chain right after JwtRequestFilter so the caller is known.
+ * Authenticated reads and writes are keyed by the token subject and drawn from separate buckets, so a client
+ * polling the task list cannot spend its own write budget or anyone else's database time. A login attempt draws
+ * on two buckets, the client address's first and then the submitted email's: the email bucket caps guessing
+ * against one account however many addresses it comes from, and the address bucket stops one client trying
+ * credentials for account after account. An attempt the address bucket refuses never reaches the email bucket,
+ * and with the address budget the smaller of the two, no single client can spend an account's whole budget and
+ * lock its owner out. Refresh and registration have a budget of their own keyed by client address; with
+ * server.forward-headers-strategy set, that is the address reported by a trusted proxy. Other requests without a
+ * principal are left to the security rules, and actuator scrapes are not counted.
+ * <p>
+ * Every limited response carries RateLimit-Limit, RateLimit-Remaining and RateLimit-Reset (seconds until the
+ * bucket is full) for the bucket that refused it, or otherwise the one with the fewest tokens left; a refused one
+ * is a 429 with Retry-After. Buckets live in a size-bounded Caffeine cache and are dropped once idle for longer than it takes them to refill, at which point a fresh bucket is equivalent.
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(RateLimitFilter.class);
+
+    public static final String LIMIT_HEADER = "RateLimit-Limit";
+    public static final String REMAINING_HEADER = "RateLimit-Remaining";
+    public static final String RESET_HEADER = "RateLimit-Reset";
+
+    private static final String LOGIN_PATH = "/auth/login";
+
+    enum Budget { READ, WRITE, AUTH, AUTH_ADDRESS, ANONYMOUS }
+
+    // Login bodies are a few dozen bytes; anything longer is not parsed for the email
+    private static final int MAX_LOGIN_BODY = 4096;
+
+    private record Policy(int capacity, long periodNanos) {
+    }
+
+    private record BucketKey(Budget budget, String caller) {
+    }
+
+    private final boolean enabled;
+    private final Map<Budget, Policy> policies = new EnumMap<>(Budget.class);
+    private final Map<Budget, Counter> rejected = new EnumMap<>(Budget.class);
+    private final Cache<BucketKey, TokenBucket> buckets;
+    private final ObjectMapper objectMapper;
+
+    public RateLimitFilter(@Value("${app.rate-limit.enabled:true}") boolean enabled,
+                           @Value("${app.rate-limit.read.capacity:300}") int readCapacity,
+                           @Value("${app.rate-limit.read.period:1m}") Duration readPeriod,
+                           @Value("${app.rate-limit.write.capacity:60}") int writeCapacity,
+                           @Value("${app.rate-limit.write.period:1m}") Duration writePeriod,
+                           @Value("${app.rate-limit.auth.capacity:10}") int authCapacity,
+                           @Value("${app.rate-limit.auth.period:1m}") Duration authPeriod,
+                           @Value("${app.rate-limit.auth-address.capacity:5}") int authAddressCapacity,
+                           @Value("${app.rate-limit.auth-address.period:1m}") Duration authAddressPeriod,
+                           @Value("${app.rate-limit.anonymous.capacity:30}") int anonymousCapacity,
+                           @Value("${app.rate-limit.anonymous.period:1m}") Duration anonymousPeriod,
+                           @Value("${app.rate-limit.max-buckets:100000}") long maxBuckets,
+                           ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.objectMapper = objectMapper;
+        policies.put(Budget.READ, new Policy(readCapacity, readPeriod.toNanos()));
+        policies.put(Budget.WRITE, new Policy(writeCapacity, writePeriod.toNanos()));
+        policies.put(Budget.AUTH, new Policy(authCapacity, authPeriod.toNanos()));
+        policies.put(Budget.AUTH_ADDRESS, new Policy(authAddressCapacity, authAddressPeriod.toNanos()));
+        policies.put(Budget.ANONYMOUS, new Policy(anonymousCapacity, anonymousPeriod.toNanos()));
+        for (Budget budget : Budget.values()) {
+            rejected.put(budget, meterRegistry.counter("http.rate_limit.rejected", "budget", budget.name().toLowerCase()));
+        }
+
+        // An idle bucket has refilled completely after the longest period, so forgetting it changes nothing
+        long idleNanos = policies.values().stream().mapToLong(Policy::periodNanos).max().orElseThrow();
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxBuckets)
+                .expireAfterAccess(idleNanos, TimeUnit.NANOSECONDS)
+                .build();
+        meterRegistry.gauge("http.rate_limit.buckets", buckets, cache -> cache.estimatedSize());
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || request.getRequestURI().startsWith("/actuator/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (LOGIN_PATH.equals(request.getRequestURI())) {
+            request = new CachedBodyRequest(request);
+        }
+        List<BucketKey> keys = resolveKeys(request);
+        if (keys.isEmpty()) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        // Buckets are drawn in order and the first refusal stops the rest from being charged
+        BucketKey reportedKey = null;
+        TokenBucket reportedBucket = null;
+        TokenBucket.Probe reported = null;
+        for (BucketKey key : keys) {
+            Policy policy = policies.get(key.budget());
+            TokenBucket bucket = buckets.get(key, k -> new TokenBucket(policy.capacity(), policy.periodNanos(), System.nanoTime()));
+            TokenBucket.Probe probe = bucket.tryConsume(System.nanoTime());
+            if (reported == null || !probe.allowed() || probe.remaining() < reported.remaining()) {
+                reportedKey = key;
+                reportedBucket = bucket;
+                reported = probe;
+            }
+            if (!probe.allowed()) {
+                break;
+            }
+        }
+
+        response.setHeader(LIMIT_HEADER, String.valueOf(reportedBucket.getCapacity()));
+        response.setHeader(REMAINING_HEADER, String.valueOf(reported.remaining()));
+        response.setHeader(RESET_HEADER, String.valueOf(toSeconds(reported.resetNanos())));
+        if (reported.allowed()) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        rejected.get(reportedKey.budget()).increment();
+        logger.warn("Rate limited {} {} for {} ({} budget)", request.getMethod(), request.getRequestURI(),
+                reportedKey.caller(), reportedKey.budget());
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(toSeconds(reported.retryAfterNanos())));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(),
+                new CommonApiResponse<>(HttpStatus.TOO_MANY_REQUESTS.value(), "Too many requests, please slow down.", null));
+    }
+
+    // The buckets a request draws on, in the order they are charged; none for requests that are not limited
+    private List<BucketKey> resolveKeys(HttpServletRequest request) throws IOException {
+        String uri = request.getRequestURI();
+        if (LOGIN_PATH.equals(uri)) {
+            BucketKey address = new BucketKey(Budget.AUTH_ADDRESS, request.getRemoteAddr());
+            String email = request instanceof CachedBodyRequest body ? body.email(objectMapper) : null;
+            return email != null
+                    ? List.of(address, new BucketKey(Budget.AUTH, email.trim().toLowerCase()))
+                    : List.of(address);
+        }
+        if (uri.startsWith("/auth/")) {
+            return List.of(new BucketKey(Budget.ANONYMOUS, request.getRemoteAddr()));
+        }
+
+        String caller = null;
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated() && !(authentication instanceof AnonymousAuthenticationToken)) {
+            caller = authentication.getName();
+        }
+        if (caller == null && request.getAttribute(JwtUtil.CLAIMS_ATTRIBUTE) instanceof Claims claims) {
+            caller = claims.getSubject();
+        }
+        if (caller == null) {
+            return List.of();
+        }
+
+        String method = request.getMethod();
+        boolean read = "GET".equals(method) || "HEAD".equals(method) || "OPTIONS".equals(method);
+        return List.of(new BucketKey(read ? Budget.READ : Budget.WRITE, caller.toLowerCase()));
+    }
+
+    // Round up so a client that waits the advertised time is never refused again
+    private static long toSeconds(long nanos) {
+        return Math.max(0, (nanos + 999_999_999L) / 1_000_000_000L);
+    }
+
+    // Reads the start of the body once so the email can be taken from it, then replays it to the controller
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] head;
+        private final InputStream body;
+
+        CachedBodyRequest(HttpServletRequest request) throws IOException {
+            super(request);
+            InputStream in = request.getInputStream();
+            this.head = in.readNBytes(MAX_LOGIN_BODY + 1);
+            this.body = new SequenceInputStream(new ByteArrayInputStream(head), in);
+        }
+
+        String email(ObjectMapper objectMapper) {
+            if (head.length > MAX_LOGIN_BODY) {
+                return null;
+            }
+            try {
+                JsonNode email = objectMapper.readTree(head).get("email");
+                return email != null && email.isTextual() && !email.asText().isBlank() ? email.asText() : null;
+            } catch (IOException e) {
+                // Malformed bodies are the controller's to reject
+                return null;
+            }
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            return new ServletInputStream() {
+                private boolean finished;
+
+                @Override
+                public int read() throws IOException {
+                    int b = body.read();
+                    finished = b < 0;
+                    return b;
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) throws IOException {
+                    int n = body.read(buffer, offset, length);
+                    finished = n < 0;
+                    return n;
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return finished;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    throw new UnsupportedOperationException("Non-blocking reads are not supported");
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            return new BufferedReader(new InputStreamReader(getInputStream(), StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.todo_project.utils;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+// Counts the SQL statements each request runs, ahead of the security chain so user lookups are included.
+// The totals are logged at DEBUG (and at WARN past the threshold); SqlStatementHeaderAdvice adds them as headers.
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(name = "app.sql.stats.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlStatementFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(SqlStatementFilter.class);
+
+    private final int warnThreshold;
+
+    public SqlStatementFilter(@Value("${app.sql.stats.warn-threshold:20}") int warnThreshold) {
+        this.warnThreshold = warnThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        SqlStatementStats stats = SqlStatementStats.open(false);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            stats.close();
+            if (stats.getCount() > warnThreshold) {
+                logger.warn("{} {} ran {} SQL statements in {} ms", request.getMethod(), request.getRequestURI(),
+                        stats.getCount(), stats.getElapsedMillis());
+            } else {
+                logger.debug("{} {} ran {} SQL statements in {} ms", request.getMethod(), request.getRequestURI(),
+                        stats.getCount(), stats.getElapsedMillis());
+            }
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.todo_project.utils;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.listener.logging.DefaultQueryLogEntryCreator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+// Feeds SqlStatementStats and logs statements slower than the threshold together with their bind parameters
+public class SqlStatementListener implements QueryExecutionListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(SqlStatementListener.class);
+
+    private static final String STARTED = SqlStatementListener.class.getName() + ".STARTED";
+
+    private final long slowQueryThresholdNanos;
+    private final DefaultQueryLogEntryCreator logEntryCreator = new DefaultQueryLogEntryCreator();
+
+    public SqlStatementListener(Duration slowQueryThreshold) {
+        this.slowQueryThresholdNanos = slowQueryThreshold.toNanos();
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        execInfo.addCustomValue(STARTED, System.nanoTime());
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        Long started = execInfo.getCustomValue(STARTED, Long.class);
+        long elapsed = started == null ? 0 : System.nanoTime() - started;
+
+        if (SqlStatementStats.current() != null) {
+            SqlStatementStats.record(() -> queryInfoList.stream().map(QueryInfo::getQuery).collect(Collectors.joining("; ")), elapsed);
+        }
+        if (elapsed >= slowQueryThresholdNanos) {
+            logger.warn("Slow query ({} ms): {}", elapsed / 1_000_000,
+                    logEntryCreator.getLogEntry(execInfo, queryInfoList, false, true, false));
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.todo_project.utils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Statements executed on the current thread while a scope is open. SqlStatementFilter opens one per request and
+ * tests open one around a single service call; SqlStatementListener records every JDBC execution into it.
+ * A batch counts once, since it is one round trip. Work handed to another thread (streamed exports, the
+ * reactive endpoints) is not seen here.
+ */
+public final class SqlStatementStats {
+
+    private static final ThreadLocal<SqlStatementStats> CURRENT = new ThreadLocal<>();
+
+    private final SqlStatementStats outer;
+    private final boolean captureSql;
+    private final List<String> statements;
+    private int count;
+    private long nanos;
+
+    private SqlStatementStats(SqlStatementStats outer, boolean captureSql) {
+        this.outer = outer;
+        this.captureSql = captureSql;
+        this.statements = captureSql ? new ArrayList<>() : Collections.emptyList();
+    }
+
+    // Opens a scope on this thread; scopes nest, and statements count towards every open scope
+    public static SqlStatementStats open(boolean captureSql) {
+        SqlStatementStats stats = new SqlStatementStats(CURRENT.get(), captureSql);
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    public static SqlStatementStats current() {
+        return CURRENT.get();
+    }
+
+    public void close() {
+        if (outer == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(outer);
+        }
+    }
+
+    // The SQL text is only built when some open scope captures it
+    static void record(Supplier<String> sql, long elapsedNanos) {
+        for (SqlStatementStats stats = CURRENT.get(); stats != null; stats = stats.outer) {
+            stats.count++;
+            stats.nanos += elapsedNanos;
+            if (stats.captureSql) {
+                stats.statements.add(sql.get());
+            }
+        }
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public long getElapsedMillis() {
+        return nanos / 1_000_000;
+    }
+
+    public List<String> getStatements() {
+        return Collections.unmodifiableList(statements);
+    }
+}
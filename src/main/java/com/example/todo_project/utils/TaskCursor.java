@@ -0,0 +1,74 @@
+package com.example.todo_project.utils;
+
+import com.example.todo_project.exception.ApplicationException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque continuation token for keyset pagination over task lists.
+ * The lists are filtered by equality on every other column, so the task id alone
+ * is the seek key and a token only has to carry the last id a client has seen.
+ * Indexed title search is ordered by relevance instead, so its tokens carry the
+ * score of the last hit as well as its id.
+ */
+public final class TaskCursor {
+
+    private static final String VERSION_PREFIX = "v1:";
+    private static final String RANKED_PREFIX = "v1r:";
+
+    private TaskCursor() {
+    }
+
+    // Position in a ranked search, which is ordered by score descending, then id ascending
+    public record Ranked(int score, long lastId) {
+    }
+
+    public static String encode(long lastId) {
+        return encodeRaw(VERSION_PREFIX + lastId);
+    }
+
+    public static String encodeRanked(int score, long lastId) {
+        return encodeRaw(RANKED_PREFIX + score + ":" + lastId);
+    }
+
+    // An empty cursor starts from the beginning of the list
+    public static long decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
+        try {
+            return Long.parseLong(decodeRaw(cursor, VERSION_PREFIX));
+        } catch (IllegalArgumentException e) {
+            throw new ApplicationException.InvalidRequestException("Invalid cursor.");
+        }
+    }
+
+    // An empty cursor starts from the best match, and is returned as null
+    public static Ranked decodeRanked(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String[] parts = decodeRaw(cursor, RANKED_PREFIX).split(":", -1);
+            if (parts.length != 2) {
+                throw new ApplicationException.InvalidRequestException("Invalid cursor.");
+            }
+            return new Ranked(Integer.parseInt(parts[0]), Long.parseLong(parts[1]));
+        } catch (IllegalArgumentException e) {
+            throw new ApplicationException.InvalidRequestException("Invalid cursor.");
+        }
+    }
+
+    private static String encodeRaw(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decodeRaw(String cursor, String prefix) {
+        String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        if (!raw.startsWith(prefix)) {
+            throw new ApplicationException.InvalidRequestException("Invalid cursor.");
+        }
+        return raw.substring(prefix.length());
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.todo_project.utils;
+
+import com.example.todo_project.repository.UserRepository;
+import com.example.todo_project.service.DataVersionService;
+import io.jsonwebtoken.Claims;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+// Answers conditional GETs on the task endpoints from the user's data version alone. The ETag is computed before
+// the handler runs, so a matching If-None-Match gets its 304 without any task query, and a full response is tagged
+// with the version read before its data (if the two race, the tag is merely older than the body, never newer).
+// Only a 2xx body is tagged, by TaskETagAdvice once the handler has set its status: a tagged 404 would let the
+// client revalidate a resource it never had into a 304.
+// The current date is part of the tag because due-today and the agenda change at midnight without any write; for
+// a request with a zone parameter it is the date in that zone.
+@Component
+public class TaskETagInterceptor implements HandlerInterceptor {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskETagInterceptor.class);
+
+    static final String ETAG_ATTRIBUTE = TaskETagInterceptor.class.getName() + ".etag";
+
+    private final DataVersionService dataVersionService;
+    private final UserRepository userRepository;
+    private final JwtUtil jwtUtil;
+
+    public TaskETagInterceptor(DataVersionService dataVersionService, UserRepository userRepository, JwtUtil jwtUtil) {
+        this.dataVersionService = dataVersionService;
+        this.userRepository = userRepository;
+        this.jwtUtil = jwtUtil;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!"GET".equals(request.getMethod()) && !"HEAD".equals(request.getMethod())) {
+            return true;
+        }
+        Long userId = resolveUserId(request);
+        if (userId == null) {
+            return true;
+        }
+
+        String etag = "\"" + userId + "-" + dataVersionService.current(userId) + "-" + today(request).toEpochDay() + "\"";
+        // Clients may keep the body but must revalidate it, and shared caches must not keep it at all
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.AUTHORIZATION);
+        // Without the response, the check leaves its headers and status alone
+        if (new ServletWebRequest(request).checkNotModified(etag)) {
+            logger.debug("Not modified: {} {} for user id: {}", request.getMethod(), request.getRequestURI(), userId);
+            response.setStatus(HttpStatus.NOT_MODIFIED.value());
+            response.setHeader(HttpHeaders.ETAG, etag);
+            return false;
+        }
+        request.setAttribute(ETAG_ATTRIBUTE, etag);
+        return true;
+    }
+
+    // An invalid zone falls back to the server date; the handler rejects the request anyway
+    private static LocalDate today(HttpServletRequest request) {
+        String zone = request.getParameter("zone");
+        if (zone != null && !zone.isBlank()) {
+            try {
+                return LocalDate.now(ZoneId.of(zone));
+            } catch (DateTimeException e) {
+                logger.debug("Ignoring invalid zone for ETag: {}", zone);
+            }
+        }
+        return LocalDate.now();
+    }
+
+    // Same claims the controllers use; tokens without the id claim fall back to the cached user lookup
+    private Long resolveUserId(HttpServletRequest request) {
+        if (!(request.getAttribute(JwtUtil.CLAIMS_ATTRIBUTE) instanceof Claims claims) || claims.getSubject() == null) {
+            return null;
+        }
+        AuthenticatedUser principal = jwtUtil.toAuthenticatedUser(claims);
+        if (principal != null) {
+            return principal.getId();
+        }
+        return userRepository.findByEmail(claims.getSubject()).map(user -> user.getId()).orElse(null);
+    }
+}
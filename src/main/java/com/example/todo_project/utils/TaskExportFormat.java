@@ -0,0 +1,144 @@
+package com.example.todo_project.utils;
+
+import com.example.todo_project.dto.TodoResponseDTO;
+import com.example.todo_project.exception.ApplicationException;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Wire formats of GET /api/tasks/export. Both write one task per line, straight to the response
+ * stream, so the exporter never holds more than the current row.
+ */
+public enum TaskExportFormat {
+
+    NDJSON("application/x-ndjson", "ndjson") {
+        @Override
+        public RowWriter open(OutputStream out) throws IOException {
+            JsonGenerator generator = JSON_FACTORY.createGenerator(out);
+            generator.setPrettyPrinter(new MinimalPrettyPrinter("\n"));
+            return new RowWriter() {
+                private boolean empty = true;
+
+                @Override
+                public void write(TodoResponseDTO task) throws IOException {
+                    empty = false;
+                    generator.writeStartObject();
+                    generator.writeNumberField("id", task.getId());
+                    generator.writeStringField("title", task.getTitle());
+                    generator.writeStringField("description", task.getDescription());
+                    generator.writeStringField("priority", task.getPriority() == null ? null : task.getPriority().name());
+                    generator.writeStringField("dueDate", task.getDueDate() == null ? null : task.getDueDate().toString());
+                    generator.writeBooleanField("completed", task.isCompleted());
+                    generator.writeEndObject();
+                }
+
+                @Override
+                public void flush() throws IOException {
+                    generator.flush();
+                }
+
+                @Override
+                public void close() throws IOException {
+                    // The separator only goes between records, so terminate the last one here
+                    if (!empty) {
+                        generator.writeRaw('\n');
+                    }
+                    generator.flush();
+                }
+            };
+        }
+    },
+
+    CSV("text/csv", "csv") {
+        @Override
+        public RowWriter open(OutputStream out) throws IOException {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            writer.write("id,title,description,priority,dueDate,completed\r\n");
+            return new RowWriter() {
+                @Override
+                public void write(TodoResponseDTO task) throws IOException {
+                    writer.write(String.valueOf(task.getId()));
+                    writer.write(',');
+                    writer.write(csvField(task.getTitle()));
+                    writer.write(',');
+                    writer.write(csvField(task.getDescription()));
+                    writer.write(',');
+                    writer.write(task.getPriority() == null ? "" : task.getPriority().name());
+                    writer.write(',');
+                    writer.write(task.getDueDate() == null ? "" : task.getDueDate().toString());
+                    writer.write(',');
+                    writer.write(String.valueOf(task.isCompleted()));
+                    writer.write("\r\n");
+                }
+
+                @Override
+                public void flush() throws IOException {
+                    writer.flush();
+                }
+
+                @Override
+                public void close() throws IOException {
+                    writer.flush();
+                }
+            };
+        }
+    };
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final String contentType;
+    private final String extension;
+
+    TaskExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public abstract RowWriter open(OutputStream out) throws IOException;
+
+    public static TaskExportFormat from(String value) {
+        for (TaskExportFormat format : values()) {
+            if (format.name().equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new ApplicationException.InvalidRequestException("Unsupported export format: " + value);
+    }
+
+    // RFC 4180: quote fields containing a separator, quote or line break, doubling embedded quotes
+    static String csvField(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    public interface RowWriter extends AutoCloseable {
+        void write(TodoResponseDTO task) throws IOException;
+
+        void flush() throws IOException;
+
+        // Finishes and flushes the output; the response stream itself is left for the container to close
+        @Override
+        void close() throws IOException;
+    }
+}
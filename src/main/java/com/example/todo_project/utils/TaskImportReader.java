@@ -0,0 +1,235 @@
+package com.example.todo_project.utils;
+
+import com.example.todo_project.exception.ApplicationException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Incremental reader for POST /api/tasks/import. Accepts the formats GET /api/tasks/export writes and
+ * returns one record at a time as a lower-cased field name to raw value map, so only the current record is ever
+ * held in memory. A malformed record raises InvalidRequestException and the reader moves on to the next one.
+ */
+public abstract class TaskImportReader {
+
+    public static final int MAX_RECORD_LENGTH = 64 * 1024;
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    protected final BufferedReader reader;
+    private long linesConsumed;
+    private long recordLine;
+    private int pushedBack = -1;
+
+    protected TaskImportReader(InputStream in) {
+        this.reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+    }
+
+    public static TaskImportReader open(TaskExportFormat format, InputStream in) throws IOException {
+        return format == TaskExportFormat.CSV ? new CsvReader(in) : new NdjsonReader(in);
+    }
+
+    // Next record, or null once the input is exhausted
+    public abstract Map<String, String> next() throws IOException;
+
+    // 1-based line on which the record last returned (or rejected) by next() started
+    public long getRecordLine() {
+        return recordLine;
+    }
+
+    protected void startRecord() {
+        recordLine = linesConsumed + 1;
+    }
+
+    protected int read() throws IOException {
+        int c;
+        if (pushedBack >= 0) {
+            c = pushedBack;
+            pushedBack = -1;
+        } else {
+            c = reader.read();
+        }
+        if (c == '\n') {
+            linesConsumed++;
+        }
+        return c;
+    }
+
+    protected void unread(int c) {
+        if (c == '\n') {
+            linesConsumed--;
+        }
+        pushedBack = c;
+    }
+
+    // Drops the rest of the current physical line after an oversized record
+    protected void skipLine() throws IOException {
+        int c;
+        do {
+            c = read();
+        } while (c != '\n' && c != -1);
+    }
+
+    protected static ApplicationException.InvalidRequestException tooLong() {
+        return new ApplicationException.InvalidRequestException("Record exceeds " + MAX_RECORD_LENGTH + " characters.");
+    }
+
+    private static final class NdjsonReader extends TaskImportReader {
+
+        NdjsonReader(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public Map<String, String> next() throws IOException {
+            StringBuilder line = new StringBuilder();
+            while (true) {
+                startRecord();
+                line.setLength(0);
+                int c = read();
+                if (c == -1) {
+                    return null;
+                }
+                while (c != '\n' && c != -1) {
+                    if (line.length() == MAX_RECORD_LENGTH) {
+                        skipLine();
+                        throw tooLong();
+                    }
+                    line.append((char) c);
+                    c = read();
+                }
+                if (!line.toString().isBlank()) {
+                    return parse(line.toString());
+                }
+            }
+        }
+
+        private static Map<String, String> parse(String line) {
+            JsonNode node;
+            try {
+                node = JSON.readTree(line);
+            } catch (JsonProcessingException e) {
+                throw new ApplicationException.InvalidRequestException("Malformed JSON: " + e.getOriginalMessage());
+            }
+            if (node == null || !node.isObject()) {
+                throw new ApplicationException.InvalidRequestException("Each line must be a JSON object.");
+            }
+
+            Map<String, String> record = new HashMap<>();
+            for (Iterator<Map.Entry<String, JsonNode>> fields = node.fields(); fields.hasNext(); ) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                JsonNode value = field.getValue();
+                if (value.isContainerNode()) {
+                    throw new ApplicationException.InvalidRequestException("Field '" + field.getKey() + "' must be a string, number or boolean.");
+                }
+                record.put(field.getKey().toLowerCase(Locale.ROOT), value.isNull() ? null : value.asText());
+            }
+            return record;
+        }
+    }
+
+    // RFC 4180 records; the first record is the header and names the columns
+    private static final class CsvReader extends TaskImportReader {
+
+        private final List<String> header;
+
+        CsvReader(InputStream in) throws IOException {
+            super(in);
+            List<String> columns = readFields();
+            if (columns == null) {
+                throw new ApplicationException.InvalidRequestException("CSV input must start with a header row.");
+            }
+            header = columns.stream().map(column -> column.trim().toLowerCase(Locale.ROOT)).toList();
+        }
+
+        @Override
+        public Map<String, String> next() throws IOException {
+            List<String> fields = readFields();
+            if (fields == null) {
+                return null;
+            }
+            if (fields.size() != header.size()) {
+                throw new ApplicationException.InvalidRequestException(
+                        "Expected " + header.size() + " columns but found " + fields.size() + ".");
+            }
+            Map<String, String> record = new HashMap<>();
+            for (int i = 0; i < fields.size(); i++) {
+                record.put(header.get(i), fields.get(i).isEmpty() ? null : fields.get(i));
+            }
+            return record;
+        }
+
+        // Fields of the next non-blank record, or null at end of input
+        private List<String> readFields() throws IOException {
+            while (true) {
+                startRecord();
+                List<String> fields = new ArrayList<>();
+                StringBuilder field = new StringBuilder();
+                int length = 0;
+                boolean quoted = false;
+                boolean sawData = false;
+
+                int c = read();
+                if (c == -1) {
+                    return null;
+                }
+                while (c != -1) {
+                    if (++length > MAX_RECORD_LENGTH) {
+                        skipLine();
+                        throw tooLong();
+                    }
+                    if (quoted) {
+                        if (c == '"') {
+                            int next = read();
+                            if (next == '"') {
+                                field.append('"');
+                            } else {
+                                quoted = false;
+                                if (next != -1) {
+                                    unread(next);
+                                }
+                            }
+                        } else {
+                            field.append((char) c);
+                        }
+                    } else if (c == '"' && field.length() == 0) {
+                        quoted = true;
+                        sawData = true;
+                    } else if (c == ',') {
+                        fields.add(field.toString());
+                        field.setLength(0);
+                        sawData = true;
+                    } else if (c == '\n') {
+                        break;
+                    } else if (c != '\r') {
+                        field.append((char) c);
+                        sawData = true;
+                    }
+                    c = read();
+                }
+                if (quoted) {
+                    throw new ApplicationException.InvalidRequestException("Unterminated quoted field.");
+                }
+                if (sawData) {
+                    fields.add(field.toString());
+                    return fields;
+                }
+                if (c == -1) {
+                    return null;
+                }
+            }
+        }
+    }
+}
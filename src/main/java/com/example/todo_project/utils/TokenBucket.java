@@ -0,0 +1,54 @@
+package com.example.todo_project.utils;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A lock-free token bucket holding up to capacity tokens that refills at capacity per period. Instead of a token
+ * count and a refill timestamp, the whole state is one AtomicLong: the instant (in nanos) at which the bucket will
+ * be full again, as in the generic cell rate algorithm. Taking a token pushes that instant one refill interval
+ * further; the request is refused when that would put it more than a full bucket's worth of time ahead of now.
+ * A call is therefore a read and a compareAndSet, and concurrent requests of one user never block each other.
+ */
+public class TokenBucket {
+
+    private final int capacity;
+    private final long refillIntervalNanos;
+    private final long burstNanos;
+
+    // When the bucket is full again; anything at or before now means full
+    private final AtomicLong fullAt;
+
+    // Outcome of one attempt; resetNanos is how long until the bucket is full, retryAfterNanos is 0 when allowed
+    public record Probe(boolean allowed, int remaining, long resetNanos, long retryAfterNanos) {
+    }
+
+    public TokenBucket(int capacity, long periodNanos, long nowNanos) {
+        if (capacity < 1 || periodNanos < capacity) {
+            throw new IllegalArgumentException("capacity must be at least 1 and period at least capacity nanoseconds");
+        }
+        this.capacity = capacity;
+        this.refillIntervalNanos = periodNanos / capacity;
+        this.burstNanos = refillIntervalNanos * capacity;
+        this.fullAt = new AtomicLong(nowNanos);
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public Probe tryConsume(long nowNanos) {
+        while (true) {
+            long current = fullAt.get();
+            // Comparisons go through differences so System.nanoTime() wrap-around is harmless
+            long base = current - nowNanos > 0 ? current : nowNanos;
+            long next = base + refillIntervalNanos;
+            long ahead = next - nowNanos;
+            if (ahead > burstNanos) {
+                return new Probe(false, 0, current - nowNanos, ahead - burstNanos);
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return new Probe(true, (int) ((burstNanos - ahead) / refillIntervalNanos), ahead, 0);
+            }
+        }
+    }
+}
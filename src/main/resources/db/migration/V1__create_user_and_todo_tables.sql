@@ -0,0 +1,21 @@
+-- Matches the tables Hibernate used to create with ddl-auto=update, so existing databases are left untouched
+CREATE TABLE IF NOT EXISTS `user` (
+    id       BIGINT NOT NULL AUTO_INCREMENT,
+    email    VARCHAR(255),
+    name     VARCHAR(255),
+    password VARCHAR(255),
+    role     ENUM ('ADMIN', 'USER'),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS todo (
+    id          BIGINT NOT NULL AUTO_INCREMENT,
+    completed   BIT(1) NOT NULL,
+    description VARCHAR(255),
+    due_date    DATE,
+    priority    ENUM ('LOW', 'MEDIUM', 'HIGH', 'CRITICAL'),
+    title       VARCHAR(255),
+    user_id     BIGINT,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_todo_user FOREIGN KEY (user_id) REFERENCES `user` (id)
+) ENGINE = InnoDB;
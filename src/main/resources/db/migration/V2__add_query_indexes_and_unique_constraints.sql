@@ -0,0 +1,26 @@
+-- Databases that ran under ddl-auto=update can hold rows these unique indexes would reject, so the oldest row
+-- keeps each value and later duplicates are renamed with their id appended. A renamed account can no longer
+-- log in under the shared email (findByEmail already failed on it) and has to be merged or re-addressed by hand:
+--   SELECT id, email FROM `user` WHERE email LIKE '%#duplicate-%';
+-- The GROUP BY keeps each derived table materialized, which MySQL needs to read the table it is updating.
+UPDATE `user`
+SET email = CONCAT(LEFT(email, 200), '#duplicate-', id)
+WHERE email IS NOT NULL
+  AND id NOT IN (SELECT keep_id FROM (SELECT MIN(id) AS keep_id FROM `user` GROUP BY email) kept);
+
+UPDATE todo
+SET title = CONCAT(LEFT(title, 200), ' (', id, ')')
+WHERE title IS NOT NULL
+  AND id NOT IN (SELECT keep_id FROM (SELECT MIN(id) AS keep_id FROM todo GROUP BY user_id, title) kept);
+
+-- Login, registration and every email-scoped finder look users up by email
+CREATE UNIQUE INDEX ux_user_email ON `user` (email);
+
+-- One title per user; replaces the existsByTitleAndUser pre-check in TodoService.createTask
+CREATE UNIQUE INDEX ux_todo_user_title ON todo (user_id, title);
+
+-- Composite indexes for the filtered task lists; InnoDB appends the primary key,
+-- so each also serves the keyset (id > ?) variants in id order
+CREATE INDEX ix_todo_user_completed ON todo (user_id, completed);
+CREATE INDEX ix_todo_user_priority ON todo (user_id, priority);
+CREATE INDEX ix_todo_user_due_date ON todo (user_id, due_date);
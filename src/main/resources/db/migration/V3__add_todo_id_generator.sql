@@ -0,0 +1,10 @@
+-- Todo ids are now handed out by Hibernate's pooled table generator in blocks of 50 so inserts can be batched.
+-- The counter starts two blocks past the highest existing id; the AUTO_INCREMENT on todo.id is simply no longer used.
+CREATE TABLE todo_id_generator (
+    sequence_name VARCHAR(64) NOT NULL,
+    next_val      BIGINT      NOT NULL,
+    PRIMARY KEY (sequence_name)
+) ENGINE = InnoDB;
+
+INSERT INTO todo_id_generator (sequence_name, next_val)
+SELECT 'todo', COALESCE(MAX(id), 0) + 100 FROM todo;
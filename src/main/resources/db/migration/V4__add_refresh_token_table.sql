@@ -0,0 +1,14 @@
+-- Refresh tokens are stored only as a SHA-256 hex digest of the opaque value handed to the client.
+-- A token is used once: refreshing revokes its row and inserts the replacement.
+CREATE TABLE refresh_token (
+    id         BIGINT      NOT NULL AUTO_INCREMENT,
+    token_hash CHAR(64)    NOT NULL,
+    user_id    BIGINT      NOT NULL,
+    expires_at DATETIME(6) NOT NULL,
+    revoked    BIT(1)      NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_refresh_token_user FOREIGN KEY (user_id) REFERENCES `user` (id) ON DELETE CASCADE
+) ENGINE = InnoDB;
+
+CREATE UNIQUE INDEX ux_refresh_token_hash ON refresh_token (token_hash);
+CREATE INDEX ix_refresh_token_user ON refresh_token (user_id);
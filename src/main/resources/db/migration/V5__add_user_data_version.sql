@@ -0,0 +1,3 @@
+-- Bumped after every committed change to the user's tasks; the task GET endpoints derive their ETag from it.
+-- Deliberately not mapped on the User entity, so saving a (possibly cached) User never writes it back.
+ALTER TABLE `user` ADD COLUMN data_version BIGINT NOT NULL DEFAULT 0;
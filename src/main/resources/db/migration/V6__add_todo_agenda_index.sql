@@ -0,0 +1,3 @@
+-- The agenda reads a user's open tasks due up to a horizon in due-date order; with completed ahead of due_date
+-- that is a single range scan instead of reading every dated task of the user and filtering
+CREATE INDEX ix_todo_user_completed_due_date ON todo (user_id, completed, due_date);
@@ -0,0 +1,3 @@
+-- When a token was used or revoked, so spent rows can be purged on refresh once they are past the window in which
+-- presenting them again should still be treated as reuse. Rows revoked before this column existed count as old.
+ALTER TABLE refresh_token ADD COLUMN revoked_at DATETIME(6) NULL;
@@ -0,0 +1,143 @@
+package com.example.todo_project;
+
+import com.example.todo_project.dto.AgendaDTO;
+import com.example.todo_project.dto.TodoResponseDTO;
+import com.example.todo_project.entity.Priority;
+import com.example.todo_project.entity.Role;
+import com.example.todo_project.entity.Todo;
+import com.example.todo_project.entity.User;
+import com.example.todo_project.repository.TodoRepository;
+import com.example.todo_project.repository.UserRepository;
+import com.example.todo_project.service.TodoService;
+import com.example.todo_project.utils.JwtUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.example.todo_project.SqlStatementAssertions.assertMaxStatements;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class AgendaTest {
+
+    // Far enough from UTC that its date is often not the server's
+    private static final String ZONE = "Pacific/Kiritimati";
+
+    @Autowired
+    private TodoService todoService;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(new User(null, "agenda@example.com", "password", "Agenda User", Role.USER));
+        LocalDate today = LocalDate.now(ZoneId.of(ZONE));
+        todoRepository.saveAll(List.of(
+                new Todo(0, "Late", null, today.minusDays(3), Priority.LOW, false, user),
+                new Todo(0, "Late but done", null, today.minusDays(1), Priority.HIGH, true, user),
+                new Todo(0, "Today low", null, today, Priority.LOW, false, user),
+                new Todo(0, "Today critical", null, today, Priority.CRITICAL, false, user),
+                new Todo(0, "Soon", null, today.plusDays(2), Priority.MEDIUM, false, user),
+                new Todo(0, "Beyond horizon", null, today.plusDays(8), Priority.HIGH, false, user),
+                new Todo(0, "Someday", null, null, Priority.HIGH, false, user)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        todoRepository.deleteAll();
+        userRepository.delete(user);
+    }
+
+    private static List<String> titles(List<TodoResponseDTO> tasks) {
+        return tasks.stream().map(TodoResponseDTO::getTitle).toList();
+    }
+
+    @Test
+    void agenda_BucketsOpenTasksAroundTheClientsToday() {
+        AgendaDTO agenda = assertMaxStatements(2, () -> todoService.getAgenda(user.getEmail(), ZONE, 7, 200));
+
+        assertEquals(LocalDate.now(ZoneId.of(ZONE)), agenda.getToday());
+        assertEquals(List.of("Late"), titles(agenda.getOverdue()));
+        assertEquals(List.of("Today critical", "Today low"), titles(agenda.getDueToday()));
+        assertEquals(List.of("Soon"), titles(agenda.getUpcoming()));
+        assertFalse(agenda.isTruncated());
+
+        AgendaDTO limited = todoService.getAgenda(user.getEmail(), ZONE, 7, 2);
+        assertEquals(List.of("Late"), titles(limited.getOverdue()));
+        assertEquals(List.of("Today critical", "Today low"), titles(limited.getDueToday()));
+        assertTrue(limited.getUpcoming().isEmpty());
+        assertTrue(limited.isTruncated());
+    }
+
+    @Test
+    void manyOverdueTasks_DoNotCrowdOutTodayAndUpcoming() {
+        LocalDate today = LocalDate.now(ZoneId.of(ZONE));
+        List<Todo> backlog = new ArrayList<>();
+        for (int i = 1; i <= 5; i++) {
+            backlog.add(new Todo(0, "Backlog " + i, null, today.minusDays(10 + i), Priority.LOW, false, user));
+        }
+        todoRepository.saveAll(backlog);
+
+        AgendaDTO agenda = todoService.getAgenda(user.getEmail(), ZONE, 7, 3);
+        // The limit keeps the overdue tasks closest to today, still listed oldest first
+        assertEquals(List.of("Backlog 2", "Backlog 1", "Late"), titles(agenda.getOverdue()));
+        assertEquals(List.of("Today critical", "Today low"), titles(agenda.getDueToday()));
+        assertEquals(List.of("Soon"), titles(agenda.getUpcoming()));
+        assertTrue(agenda.isTruncated());
+    }
+
+    @Test
+    void tasksDueTheSameDay_AreOrderedByUrgencyNotByName() {
+        LocalDate today = LocalDate.now(ZoneId.of(ZONE));
+        todoRepository.saveAll(List.of(
+                new Todo(0, "Today medium", null, today, Priority.MEDIUM, false, user),
+                new Todo(0, "Today high", null, today, Priority.HIGH, false, user)));
+
+        assertEquals(List.of("Today critical", "Today high", "Today medium", "Today low"),
+                titles(todoService.getAgenda(user.getEmail(), ZONE, 7, 200).getDueToday()));
+    }
+
+    @Test
+    void agendaEndpoint_ValidatesZoneAndHorizon() throws Exception {
+        String token = "Bearer " + jwtUtil.generateToken(user.getId(), user.getName(), user.getEmail(), user.getRole());
+
+        mockMvc.perform(get("/api/tasks/agenda").param("zone", ZONE).param("days", "10").header("Authorization", token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.zone").value(ZONE))
+                .andExpect(jsonPath("$.data.upcoming.length()").value(2));
+
+        mockMvc.perform(get("/api/tasks/agenda").param("zone", "Mars/Olympus").header("Authorization", token))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/tasks/agenda").param("days", "365").header("Authorization", token))
+                .andExpect(status().isBadRequest());
+    }
+}
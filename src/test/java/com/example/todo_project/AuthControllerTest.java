@@ -11,6 +11,7 @@ import com.example.todo_project.dto.RegisterRequestDTO;
 import com.example.todo_project.dto.UserDTO;
 import com.example.todo_project.entity.Role;
 import com.example.todo_project.exception.ApplicationException;
+import com.example.todo_project.exception.GlobalExceptionHandler;
 import com.example.todo_project.service.AuthService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -37,7 +38,9 @@ public class AuthControllerTest {
 
     @BeforeEach
     public void setup() {
-        mockMvc = MockMvcBuilders.standaloneSetup(authController).build();
+        mockMvc = MockMvcBuilders.standaloneSetup(authController)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
     }
 
     @Test
@@ -153,4 +156,17 @@ public class AuthControllerTest {
                 .andExpect(jsonPath("$.status").value(HttpStatus.INTERNAL_SERVER_ERROR.value()))
                 .andExpect(jsonPath("$.message").value("Internal Server Error: Unexpected error"));
     }
+
+    @Test
+    public void testLoginUser_HashingSaturated() throws Exception {
+        when(authService.loginUser("test@example.com", "password123"))
+                .thenThrow(new ApplicationException.ServiceUnavailableException("Too many sign-in requests, please retry shortly.", 2));
+
+        mockMvc.perform(post("/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\": \"test@example.com\", \"password\": \"password123\"}"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "2"))
+                .andExpect(jsonPath("$.status").value(HttpStatus.SERVICE_UNAVAILABLE.value()));
+    }
 }
@@ -0,0 +1,110 @@
+package com.example.todo_project;
+
+import com.example.todo_project.utils.BulkheadDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class BulkheadDataSourceTest {
+
+    private DataSource target;
+    private BulkheadDataSource bulkhead;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        target = mock(DataSource.class);
+        when(target.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+        bulkhead = new BulkheadDataSource(target, 2, Duration.ofMillis(100));
+    }
+
+    // Opens a connection on another thread, so it competes for its own permit
+    private Connection openElsewhere() throws Exception {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return bulkhead.getConnection();
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        }).get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void close_ReleasesThePermit() throws Exception {
+        Connection connection = bulkhead.getConnection();
+        assertEquals(1, bulkhead.getAvailablePermits());
+
+        connection.close();
+        assertEquals(2, bulkhead.getAvailablePermits());
+    }
+
+    @Test
+    void doubleClose_ReleasesOnlyOnce() throws Exception {
+        Connection first = bulkhead.getConnection();
+        Connection second = openElsewhere();
+        assertEquals(0, bulkhead.getAvailablePermits());
+
+        first.close();
+        first.close();
+        assertEquals(1, bulkhead.getAvailablePermits());
+
+        second.close();
+        assertEquals(2, bulkhead.getAvailablePermits());
+    }
+
+    @Test
+    void fullBulkhead_TimesOutWithTransientException() throws Exception {
+        Connection first = openElsewhere();
+        Connection second = openElsewhere();
+
+        long start = System.nanoTime();
+        ExecutionException e = assertThrows(ExecutionException.class, this::openElsewhere);
+        assertInstanceOf(SQLTransientConnectionException.class, e.getCause().getCause());
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(100));
+        verify(target, times(2)).getConnection();
+
+        first.close();
+        second.close();
+        assertEquals(2, bulkhead.getAvailablePermits());
+    }
+
+    @Test
+    void failedConnection_ReturnsThePermit() throws Exception {
+        when(target.getConnection()).thenThrow(new SQLException("pool exhausted"));
+
+        assertThrows(SQLException.class, bulkhead::getConnection);
+        assertEquals(2, bulkhead.getAvailablePermits());
+    }
+
+    @Test
+    void nestedConnection_DoesNotTakeASecondPermit() throws Exception {
+        Connection other = openElsewhere();
+        Connection outer = bulkhead.getConnection();
+        assertEquals(0, bulkhead.getAvailablePermits());
+
+        // Would time out if the thread had to wait for a permit it already holds
+        Connection nested = bulkhead.getConnection();
+        nested.close();
+        assertEquals(0, bulkhead.getAvailablePermits());
+
+        outer.close();
+        other.close();
+        assertEquals(2, bulkhead.getAvailablePermits());
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.todo_project;
+
+import com.example.todo_project.entity.Priority;
+import com.example.todo_project.entity.Role;
+import com.example.todo_project.entity.Todo;
+import com.example.todo_project.entity.User;
+import com.example.todo_project.repository.TodoRepository;
+import com.example.todo_project.repository.UserRepository;
+import com.example.todo_project.service.TodoService;
+import com.example.todo_project.utils.BulkheadDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+// A context of its own, so the id optimizer starts empty and the first creates all need a new id block
+@SpringBootTest(properties = {
+        "spring.datasource.hikari.maximum-pool-size=4",
+        "app.datasource.bulkhead.acquire-timeout=2s"
+})
+@ActiveProfiles("test")
+public class BulkheadIdGenerationTest {
+
+    private static final int THREADS = 10;
+
+    @Autowired
+    private TodoService todoService;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(new User(null, "id-block@example.com", "password", "Block User", Role.USER));
+    }
+
+    @AfterEach
+    void tearDown() {
+        todoRepository.deleteAll();
+        userRepository.delete(user);
+    }
+
+    @Test
+    void permitsLeaveHeadroomForNestedConnections() {
+        assertEquals(2, assertInstanceOf(BulkheadDataSource.class, dataSource).getMaxConcurrent());
+    }
+
+    @Test
+    void concurrentCreates_AtABlockBoundaryDoNotDeadlock() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> results = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            String title = "Block task " + i;
+            results.add(executor.submit(() -> {
+                start.await();
+                return todoService.createTask(new Todo(0, title, null, null, Priority.LOW, false, null), user.getEmail());
+            }));
+        }
+        start.countDown();
+        for (Future<?> result : results) {
+            result.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertEquals(THREADS, todoRepository.countByUserEmail(user.getEmail()));
+    }
+}
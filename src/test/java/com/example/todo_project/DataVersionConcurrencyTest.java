@@ -0,0 +1,91 @@
+package com.example.todo_project;
+
+import com.example.todo_project.dto.TodoPatchDTO;
+import com.example.todo_project.entity.Priority;
+import com.example.todo_project.entity.Role;
+import com.example.todo_project.entity.Todo;
+import com.example.todo_project.entity.User;
+import com.example.todo_project.repository.TodoRepository;
+import com.example.todo_project.repository.UserRepository;
+import com.example.todo_project.service.DataVersionService;
+import com.example.todo_project.service.TodoService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// Two permits and many writers: a bump that needed a connection of its own would time out on the bulkhead
+@SpringBootTest(properties = {
+        "app.datasource.bulkhead.max-concurrent=2",
+        "app.datasource.bulkhead.acquire-timeout=2s"
+})
+@ActiveProfiles("test")
+public class DataVersionConcurrencyTest {
+
+    private static final int THREADS = 8;
+
+    @Autowired
+    private TodoService todoService;
+
+    @Autowired
+    private DataVersionService dataVersionService;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User user;
+    private final List<Long> taskIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(new User(null, "version-race@example.com", "password", "Version User", Role.USER));
+        for (int i = 0; i < THREADS; i++) {
+            taskIds.add(todoRepository.save(new Todo(0, "Task " + i, null, null, Priority.LOW, false, user)).getId());
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        todoRepository.deleteAll();
+        userRepository.delete(user);
+    }
+
+    @Test
+    void concurrentWriters_EachBumpTheVersionOnce() throws Exception {
+        long before = dataVersionService.current(user.getId());
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> results = new ArrayList<>();
+        for (Long taskId : taskIds) {
+            results.add(executor.submit(() -> {
+                start.await();
+                todoService.patchTask(taskId, new TodoPatchDTO(null, null, Priority.HIGH, null, true), user.getEmail());
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> result : results) {
+            result.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertEquals(before + THREADS, userRepository.findDataVersionById(user.getId()));
+        assertEquals(before + THREADS, dataVersionService.current(user.getId()));
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.todo_project;
+
+import com.example.todo_project.entity.Role;
+import com.example.todo_project.utils.AuthenticatedUser;
+import com.example.todo_project.utils.JwtUtil;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JwtUtilTest {
+
+    private JwtUtil jwtUtil;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = new JwtUtil(100);
+    }
+
+    @Test
+    void generatedToken_RoundTripsClaims() {
+        String token = jwtUtil.generateToken(1L, "Test User", "test@example.com", Role.USER);
+
+        Claims claims = jwtUtil.extractAllClaims(token);
+
+        assertEquals("test@example.com", claims.getSubject());
+        assertEquals("Test User", claims.get("name"));
+        assertEquals("USER", claims.get("role"));
+        assertTrue(jwtUtil.validateToken(token, "test@example.com"));
+        assertFalse(jwtUtil.validateToken(claims, "other@example.com"));
+    }
+
+    @Test
+    void toAuthenticatedUser_BuildsPrincipalFromClaims() {
+        String token = jwtUtil.generateToken(42L, "Test User", "test@example.com", Role.ADMIN);
+
+        AuthenticatedUser principal = jwtUtil.toAuthenticatedUser(jwtUtil.extractAllClaims(token));
+
+        assertEquals(42L, principal.getId());
+        assertEquals("test@example.com", principal.getName());
+        assertEquals(Role.ADMIN, principal.getRole());
+        assertEquals("ROLE_ADMIN", principal.getAuthorities().iterator().next().getAuthority());
+    }
+
+    @Test
+    void extractAllClaims_ReusesVerifiedClaims() {
+        String token = jwtUtil.generateToken(1L, "Test User", "test@example.com", Role.USER);
+
+        Claims first = jwtUtil.extractAllClaims(token);
+        Claims second = jwtUtil.extractAllClaims(token);
+
+        assertSame(first, second);
+    }
+
+    @Test
+    void extractAllClaims_TamperedToken() {
+        String token = jwtUtil.generateToken(1L, "Test User", "test@example.com", Role.USER);
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+
+        assertThrows(JwtException.class, () -> jwtUtil.extractAllClaims(tampered));
+    }
+
+    @Test
+    void extractAllClaims_CountsCacheHitsAndTimesVerification() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        JwtUtil instrumented = new JwtUtil(100, registry);
+        String token = instrumented.generateToken(1L, "Test User", "test@example.com", Role.USER);
+
+        instrumented.extractAllClaims(token);
+        instrumented.extractAllClaims(token);
+        assertThrows(JwtException.class, () -> instrumented.extractAllClaims(token + "x"));
+
+        assertEquals(1, registry.get("jwt.verify.cache").tag("result", "hit").counter().count());
+        assertEquals(2, registry.get("jwt.verify.cache").tag("result", "miss").counter().count());
+        assertEquals(1, registry.get("jwt.verify").tag("outcome", "valid").timer().count());
+        assertEquals(1, registry.get("jwt.verify").tag("outcome", "invalid").timer().count());
+        assertEquals(1, registry.get("jwt.sign").timer().count());
+    }
+}
@@ -0,0 +1,300 @@
+package com.example.todo_project;
+
+import com.example.todo_project.entity.Role;
+import com.example.todo_project.utils.JwtUtil;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.File;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * End-to-end load test: seeds a synthetic population with LoadTestDataGenerator, then drives a weighted mix of
+ * login, list, search, create, update and delete over HTTP, through the full security filter chain, and reports
+ * throughput and p50/p95/p99 latency per operation to the log and to target/loadtest-report.json.
+ *
+ * Run with: mvn test -Dtest=LoadTest -Dloadtest=true
+ * Tunables (defaults in brackets): loadtest.users [1000], loadtest.tasks-per-user [100], loadtest.requests [20000],
+ * loadtest.warmup-requests [2000], loadtest.concurrency [64], loadtest.seed [42] and loadtest.mix
+ * [login:2,list:40,search:20,create:15,update:15,delete:8]. 100k users with 100 tasks each needs a heap of
+ * several GB for the in-memory database (-DargLine=-Xmx8g).
+ */
+@EnabledIfSystemProperty(named = "loadtest", matches = "true")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "app.rate-limit.enabled=false")
+@ActiveProfiles("test")
+public class LoadTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoadTest.class);
+
+    private static final int USERS = Integer.getInteger("loadtest.users", 1_000);
+    private static final int TASKS_PER_USER = Integer.getInteger("loadtest.tasks-per-user", 100);
+    private static final int REQUESTS = Integer.getInteger("loadtest.requests", 20_000);
+    private static final int WARMUP_REQUESTS = Integer.getInteger("loadtest.warmup-requests", 2_000);
+    private static final int CONCURRENCY = Integer.getInteger("loadtest.concurrency", 64);
+    private static final long SEED = Long.getLong("loadtest.seed", 42);
+    private static final String MIX = System.getProperty("loadtest.mix", "login:2,list:40,search:20,create:15,update:15,delete:8");
+
+    private static final String PASSWORD = "load-test-password";
+    private static final File REPORT = new File("target/loadtest-report.json");
+
+    enum Operation { LOGIN, LIST, SEARCH, CREATE, UPDATE, DELETE }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    private LoadTestDataGenerator data;
+    private String[] tokens;
+    private Operation[] schedule;
+    // Tasks created during the run, per user, which is what the delete operation removes
+    private final Map<Integer, Queue<Long>> createdTasks = new ConcurrentHashMap<>();
+    private final AtomicLong createdSequence = new AtomicLong();
+
+    @Test
+    void mixedWorkload() throws Exception {
+        data = new LoadTestDataGenerator(jdbcTemplate, USERS, TASKS_PER_USER, SEED);
+        data.seed(passwordEncoder.encode(PASSWORD));
+        tokens = new String[USERS];
+        for (int user = 0; user < USERS; user++) {
+            tokens[user] = jwtUtil.generateToken(data.userId(user), "Load User " + user, LoadTestDataGenerator.email(user), Role.USER);
+        }
+        schedule = parseMix(MIX);
+
+        run(WARMUP_REQUESTS);
+        long started = System.nanoTime();
+        Map<Operation, Stats> stats = run(REQUESTS);
+        double seconds = (System.nanoTime() - started) / 1e9;
+
+        report(stats, seconds);
+    }
+
+    private Map<Operation, Stats> run(int requests) throws Exception {
+        Map<Operation, Stats> stats = new LinkedHashMap<>();
+        for (Operation operation : Operation.values()) {
+            stats.put(operation, new Stats());
+        }
+        Semaphore inFlight = new Semaphore(CONCURRENCY);
+        List<Future<?>> results = new ArrayList<>(requests);
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < requests; i++) {
+                inFlight.acquire();
+                results.add(clients.submit(() -> {
+                    try {
+                        execute(stats);
+                        return null;
+                    } finally {
+                        inFlight.release();
+                    }
+                }));
+            }
+            for (Future<?> result : results) {
+                result.get();
+            }
+        }
+        return stats;
+    }
+
+    private void execute(Map<Operation, Stats> stats) throws Exception {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int user = random.nextInt(USERS);
+        Operation operation = schedule[random.nextInt(schedule.length)];
+        Long deleteId = null;
+        if (operation == Operation.DELETE) {
+            deleteId = createdTasks.computeIfAbsent(user, key -> new ConcurrentLinkedQueue<>()).poll();
+            if (deleteId == null) {
+                // Nothing of this user's to delete yet, so make something to delete later
+                operation = Operation.CREATE;
+            }
+        }
+
+        HttpRequest request = switch (operation) {
+            case LOGIN -> post("/auth/login", null, Map.of("email", LoadTestDataGenerator.email(user), "password", PASSWORD));
+            case LIST -> get("/api/tasks/all-tasks?size=20&page=" + random.nextInt(5), user);
+            case SEARCH -> get("/api/tasks/search-by-title?size=20&title="
+                    + URLEncoder.encode(LoadTestDataGenerator.WORDS[random.nextInt(LoadTestDataGenerator.WORDS.length)], StandardCharsets.UTF_8), user);
+            case CREATE -> post("/api/tasks", tokens[user], taskBody("load " + createdSequence.incrementAndGet()));
+            case UPDATE -> {
+                int task = random.nextInt(TASKS_PER_USER);
+                yield HttpRequest.newBuilder(uri("/api/tasks/" + data.taskId(user, task)))
+                        .header("Authorization", "Bearer " + tokens[user])
+                        .header("Content-Type", "application/json")
+                        .PUT(HttpRequest.BodyPublishers.ofString(json(taskBody(LoadTestDataGenerator.title(user, task)))))
+                        .build();
+            }
+            case DELETE -> HttpRequest.newBuilder(uri("/api/tasks/" + deleteId))
+                    .header("Authorization", "Bearer " + tokens[user])
+                    .DELETE()
+                    .build();
+        };
+
+        long sent = System.nanoTime();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        long latency = System.nanoTime() - sent;
+        boolean ok = response.statusCode() / 100 == 2;
+        stats.get(operation).record(latency, ok);
+
+        if (operation == Operation.CREATE && ok) {
+            JsonNode id = objectMapper.readTree(response.body()).path("data").path("id");
+            createdTasks.computeIfAbsent(user, key -> new ConcurrentLinkedQueue<>()).add(id.asLong());
+        }
+    }
+
+    private Map<String, Object> taskBody(String title) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("title", title);
+        body.put("description", "Written by the load test");
+        body.put("priority", LoadTestDataGenerator.priority(new SplittableRandom(random.nextLong())).name());
+        body.put("dueDate", LocalDate.now().plusDays(random.nextInt(-30, 61)).toString());
+        body.put("completed", random.nextInt(4) == 0);
+        return body;
+    }
+
+    private HttpRequest get(String path, int user) {
+        return HttpRequest.newBuilder(uri(path)).header("Authorization", "Bearer " + tokens[user]).GET().build();
+    }
+
+    private HttpRequest post(String path, String token, Map<String, Object> body) throws Exception {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri(path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json(body)));
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder.build();
+    }
+
+    private String json(Map<String, Object> body) throws Exception {
+        return objectMapper.writeValueAsString(body);
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    // "name:weight,..." expanded to a table that a uniform random index picks from
+    private static Operation[] parseMix(String mix) {
+        List<Operation> schedule = new ArrayList<>();
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split(":");
+            Operation operation = Operation.valueOf(parts[0].trim().toUpperCase());
+            int weight = Integer.parseInt(parts[1].trim());
+            for (int i = 0; i < weight; i++) {
+                schedule.add(operation);
+            }
+        }
+        if (schedule.isEmpty()) {
+            throw new IllegalArgumentException("loadtest.mix selects no operations: " + mix);
+        }
+        return schedule.toArray(new Operation[0]);
+    }
+
+    private void report(Map<Operation, Stats> stats, double seconds) throws Exception {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("users", USERS);
+        report.put("tasksPerUser", TASKS_PER_USER);
+        report.put("requests", REQUESTS);
+        report.put("concurrency", CONCURRENCY);
+        report.put("seconds", Math.round(seconds * 100) / 100.0);
+        report.put("throughput", Math.round(REQUESTS / seconds));
+
+        Map<String, Object> operations = new LinkedHashMap<>();
+        logger.info(String.format("%-8s %8s %7s %9s %9s %9s %9s", "op", "requests", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms"));
+        for (Map.Entry<Operation, Stats> entry : stats.entrySet()) {
+            Stats stat = entry.getValue();
+            if (stat.count() == 0) {
+                continue;
+            }
+            Map<String, Object> row = stat.summary(seconds);
+            operations.put(entry.getKey().name().toLowerCase(), row);
+            logger.info(String.format("%-8s %8d %7d %9d %9.1f %9.1f %9.1f", entry.getKey().name().toLowerCase(),
+                    row.get("requests"), row.get("errors"), row.get("throughput"), row.get("p50Ms"), row.get("p95Ms"), row.get("p99Ms")));
+        }
+        report.put("operations", operations);
+        logger.info("{} requests at {} concurrent in {} s -> {} req/s overall", REQUESTS, CONCURRENCY,
+                report.get("seconds"), report.get("throughput"));
+
+        REPORT.getParentFile().mkdirs();
+        objectMapper.enable(SerializationFeature.INDENT_OUTPUT).writeValue(REPORT, report);
+        logger.info("Load test report written to {}", REPORT.getAbsolutePath());
+    }
+
+    private static final class Stats {
+
+        private final Queue<Long> latencies = new ConcurrentLinkedQueue<>();
+        private final AtomicLong errors = new AtomicLong();
+
+        void record(long latencyNanos, boolean ok) {
+            latencies.add(latencyNanos);
+            if (!ok) {
+                errors.incrementAndGet();
+            }
+        }
+
+        int count() {
+            return latencies.size();
+        }
+
+        Map<String, Object> summary(double seconds) {
+            long[] sorted = latencies.stream().mapToLong(Long::longValue).toArray();
+            Arrays.sort(sorted);
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("requests", sorted.length);
+            row.put("errors", errors.get());
+            row.put("throughput", Math.round(sorted.length / seconds));
+            row.put("p50Ms", percentile(sorted, 0.50));
+            row.put("p95Ms", percentile(sorted, 0.95));
+            row.put("p99Ms", percentile(sorted, 0.99));
+            row.put("maxMs", percentile(sorted, 1.0));
+            return row;
+        }
+
+        private static double percentile(long[] sorted, double quantile) {
+            int index = Math.min(sorted.length - 1, (int) Math.ceil(quantile * sorted.length) - 1);
+            return Math.round(sorted[Math.max(0, index)] / 100_000.0) / 10.0;
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.example.todo_project;
+
+import com.example.todo_project.entity.Priority;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Seeds a synthetic population for LoadTest straight through JDBC batches. Everything is derived from the
+ * seed, so the same settings produce the same rows on every run: user i is loadtest-i@example.com, and task k
+ * of user i has id taskId(i, k) and title title(i, k). All users share one password hash, since hashing
+ * 100k passwords at the configured BCrypt cost would take hours.
+ */
+public class LoadTestDataGenerator {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoadTestDataGenerator.class);
+
+    private static final int BATCH_SIZE = 1_000;
+
+    // Words the titles are built from, and therefore what the search workload looks for
+    static final String[] WORDS = {"report", "invoice", "meeting", "review", "deploy", "backup", "budget", "call",
+            "design", "email", "fix", "groceries", "hiring", "launch", "migrate", "notes", "plan", "release",
+            "renew", "schedule", "survey", "taxes", "train", "update"};
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int users;
+    private final int tasksPerUser;
+    private final long seed;
+
+    private long firstUserId;
+    private long firstTaskId;
+
+    public LoadTestDataGenerator(JdbcTemplate jdbcTemplate, int users, int tasksPerUser, long seed) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.users = users;
+        this.tasksPerUser = tasksPerUser;
+        this.seed = seed;
+    }
+
+    public int getUsers() {
+        return users;
+    }
+
+    public int getTasksPerUser() {
+        return tasksPerUser;
+    }
+
+    public static String email(int user) {
+        return "loadtest-" + user + "@example.com";
+    }
+
+    public long userId(int user) {
+        return firstUserId + user;
+    }
+
+    public long taskId(int user, int task) {
+        return firstTaskId + (long) user * tasksPerUser + task;
+    }
+
+    public static String title(int user, int task) {
+        return WORDS[Math.floorMod(user * 31 + task, WORDS.length)] + " " + WORDS[Math.floorMod(task * 7 + user, WORDS.length)] + " #" + task;
+    }
+
+    public void seed(String passwordHash) {
+        long started = System.nanoTime();
+        firstUserId = nextId("select coalesce(max(id), 0) + 1 from `user`");
+        firstTaskId = Math.max(nextId("select coalesce(max(id), 0) + 1 from todo"),
+                nextId("select coalesce(max(next_val), 0) + 1 from todo_id_generator"));
+
+        List<Object[]> userRows = new ArrayList<>(BATCH_SIZE);
+        for (int user = 0; user < users; user++) {
+            userRows.add(new Object[]{userId(user), email(user), "Load User " + user, passwordHash, "USER"});
+            if (userRows.size() == BATCH_SIZE) {
+                insertUsers(userRows);
+            }
+        }
+        insertUsers(userRows);
+
+        SplittableRandom random = new SplittableRandom(seed);
+        LocalDate today = LocalDate.now();
+        List<Object[]> taskRows = new ArrayList<>(BATCH_SIZE);
+        for (int user = 0; user < users; user++) {
+            for (int task = 0; task < tasksPerUser; task++) {
+                LocalDate dueDate = dueDate(random, today);
+                boolean completed = random.nextDouble() < (dueDate != null && dueDate.isBefore(today) ? 0.7 : 0.15);
+                taskRows.add(new Object[]{taskId(user, task), title(user, task), "Synthetic task " + task + " of user " + user,
+                        dueDate == null ? null : Date.valueOf(dueDate), priority(random).name(), completed, userId(user)});
+                if (taskRows.size() == BATCH_SIZE) {
+                    insertTasks(taskRows);
+                }
+            }
+        }
+        insertTasks(taskRows);
+
+        // Hibernate's pooled generator must hand out ids past everything seeded here
+        jdbcTemplate.update("update todo_id_generator set next_val = ? where sequence_name = 'todo'",
+                taskId(users, 0) + 100);
+        logger.info("Seeded {} users and {} tasks in {} ms", users, (long) users * tasksPerUser,
+                (System.nanoTime() - started) / 1_000_000);
+    }
+
+    // Roughly a fifth undated, the rest spread from a month overdue to two months out
+    private static LocalDate dueDate(SplittableRandom random, LocalDate today) {
+        if (random.nextInt(5) == 0) {
+            return null;
+        }
+        return today.plusDays(random.nextInt(-30, 61));
+    }
+
+    // 40% LOW, 35% MEDIUM, 20% HIGH, 5% CRITICAL
+    static Priority priority(SplittableRandom random) {
+        int roll = random.nextInt(100);
+        if (roll < 40) {
+            return Priority.LOW;
+        }
+        if (roll < 75) {
+            return Priority.MEDIUM;
+        }
+        return roll < 95 ? Priority.HIGH : Priority.CRITICAL;
+    }
+
+    private long nextId(String sql) {
+        Long id = jdbcTemplate.queryForObject(sql, Long.class);
+        return id == null ? 1 : id;
+    }
+
+    private void insertUsers(List<Object[]> rows) {
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate("insert into `user` (id, email, name, password, role) values (?, ?, ?, ?, ?)", rows);
+            rows.clear();
+        }
+    }
+
+    private void insertTasks(List<Object[]> rows) {
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate("insert into todo (id, title, description, due_date, priority, completed, user_id) "
+                    + "values (?, ?, ?, ?, ?, ?, ?)", rows);
+            rows.clear();
+        }
+    }
+}
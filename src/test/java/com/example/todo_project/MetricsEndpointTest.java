@@ -0,0 +1,108 @@
+package com.example.todo_project;
+
+import com.example.todo_project.entity.Role;
+import com.example.todo_project.entity.User;
+import com.example.todo_project.repository.UserRepository;
+import com.example.todo_project.utils.JwtUtil;
+import com.example.todo_project.utils.SqlStatementHeaderAdvice;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "app.sql.stats.response-headers=true",
+        "app.metrics.scrape-password=scrape-secret"
+})
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@ActiveProfiles("test")
+public class MetricsEndpointTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(new User(null, "metrics@example.com", "password", "Metrics User", Role.USER));
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.delete(user);
+    }
+
+    @Test
+    void prometheusScrape_CoversHttpRepositoryJwtAndPoolMetrics() throws Exception {
+        String token = jwtUtil.generateToken(user.getId(), user.getName(), user.getEmail(), user.getRole());
+        mockMvc.perform(get("/api/tasks/all-tasks").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+
+        String scrape = mockMvc.perform(get("/actuator/prometheus").with(httpBasic("prometheus", "scrape-secret")))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertTrue(scrape.contains("http_server_requests_seconds_count{"), "endpoint timers");
+        assertTrue(scrape.contains("uri=\"/api/tasks/all-tasks\""), "endpoint uri tag");
+        assertTrue(scrape.contains("spring_data_repository_invocations_seconds_count{"), "repository timers");
+        assertTrue(scrape.contains("jwt_verify_seconds_count{"), "JWT verification timer");
+        assertTrue(scrape.contains("jwt_sign_seconds_count{"), "JWT signing timer");
+        assertTrue(scrape.contains("hikaricp_connections_active{"), "pool gauges");
+        assertTrue(scrape.contains("db_bulkhead_permits_available{"), "bulkhead gauges");
+    }
+
+    @Test
+    void prometheusScrape_RequiresTheScrapeCredential() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/actuator/prometheus").with(httpBasic("prometheus", "wrong")))
+                .andExpect(status().isUnauthorized());
+        // An application account is not a scrape credential, even an admin's
+        User admin = userRepository.save(new User(null, "metrics-admin@example.com", "password", "Metrics Admin", Role.ADMIN));
+        try {
+            mockMvc.perform(get("/actuator/prometheus")
+                            .header("Authorization", "Bearer " + jwtUtil.generateToken(admin.getId(), admin.getName(), admin.getEmail(), admin.getRole())))
+                    .andExpect(status().isUnauthorized());
+        } finally {
+            userRepository.delete(admin);
+        }
+    }
+
+    @Test
+    void debugHeaders_ReportTheRequestsStatements() throws Exception {
+        String token = jwtUtil.generateToken(user.getId(), user.getName(), user.getEmail(), user.getRole());
+        // The first request also loads the user's data version for the ETag
+        mockMvc.perform(get("/api/tasks/all-tasks").header("Authorization", "Bearer " + token))
+                .andExpect(header().string(SqlStatementHeaderAdvice.COUNT_HEADER, "2"));
+        mockMvc.perform(get("/api/tasks/all-tasks").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(header().string(SqlStatementHeaderAdvice.COUNT_HEADER, "1"))
+                .andExpect(header().exists(SqlStatementHeaderAdvice.TIME_HEADER));
+    }
+
+    @Test
+    void otherActuatorEndpoints_RequireAdmin() throws Exception {
+        String token = jwtUtil.generateToken(user.getId(), user.getName(), user.getEmail(), user.getRole());
+        mockMvc.perform(get("/actuator/metrics").header("Authorization", "Bearer " + token))
+                .andExpect(status().isForbidden());
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.todo_project;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class MigrationDedupeTest {
+
+    // A database of its own, so V2 runs against rows written before it existed
+    private final DriverManagerDataSource dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:migration_dedupe;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1", "sa", "");
+
+    private Flyway flyway(String target) {
+        return Flyway.configure().dataSource(dataSource).target(target).cleanDisabled(false).load();
+    }
+
+    @Test
+    void uniqueIndexes_ApplyToADatabaseThatAlreadyHoldsDuplicates() {
+        flyway("1").clean();
+        flyway("1").migrate();
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.update("INSERT INTO `user` (id, email, name) VALUES (1, 'dup@example.com', 'First'), (2, 'dup@example.com', 'Second'), (3, 'solo@example.com', 'Solo')");
+        jdbc.update("INSERT INTO todo (id, completed, title, user_id) VALUES (10, 0, 'Groceries', 1), (11, 0, 'Groceries', 1), "
+                + "(12, 0, 'Groceries', 3), (13, 0, NULL, 1), (14, 0, NULL, 1)");
+
+        flyway("2").migrate();
+
+        // The oldest row keeps the value; the rest stay, renamed
+        assertEquals(List.of("dup@example.com", "dup@example.com#duplicate-2", "solo@example.com"),
+                jdbc.queryForList("SELECT email FROM `user` ORDER BY id", String.class));
+        assertEquals(List.of("Groceries", "Groceries (11)", "Groceries"),
+                jdbc.queryForList("SELECT title FROM todo WHERE title IS NOT NULL ORDER BY id", String.class));
+        assertEquals(2, jdbc.queryForObject("SELECT COUNT(*) FROM todo WHERE title IS NULL", Integer.class));
+    }
+}
@@ -0,0 +1,153 @@
+package com.example.todo_project;
+
+import com.example.todo_project.config.PasswordConfig;
+import com.example.todo_project.exception.ApplicationException;
+import com.example.todo_project.service.PasswordHasher;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PasswordHasherTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private PasswordHasher passwordHasher;
+
+    @AfterEach
+    void tearDown() {
+        if (passwordHasher != null) {
+            passwordHasher.shutdown();
+        }
+    }
+
+    @Test
+    void verify_RehashesLegacyAndWeakerHashesOnly() {
+        passwordHasher = new PasswordHasher(new PasswordConfig().passwordEncoder(5), meterRegistry, 1, 4,
+                Duration.ofSeconds(10), Duration.ofSeconds(2));
+
+        // Written before the {bcrypt} prefix existed
+        String legacy = new BCryptPasswordEncoder(4).encode("secret");
+        PasswordHasher.Verification fromLegacy = passwordHasher.verify("secret", legacy);
+        assertTrue(fromLegacy.matches());
+        assertNotNull(fromLegacy.rehashed());
+        assertTrue(fromLegacy.rehashed().startsWith("{bcrypt}$2a$05$"));
+
+        // Prefixed, but at a lower cost than configured
+        PasswordHasher.Verification fromWeaker = passwordHasher.verify("secret", "{bcrypt}" + legacy);
+        assertTrue(fromWeaker.matches());
+        assertNotNull(fromWeaker.rehashed());
+
+        PasswordHasher.Verification current = passwordHasher.verify("secret", fromLegacy.rehashed());
+        assertTrue(current.matches());
+        assertNull(current.rehashed());
+
+        PasswordHasher.Verification wrong = passwordHasher.verify("guess", legacy);
+        assertFalse(wrong.matches());
+        assertNull(wrong.rehashed());
+
+        assertEquals(2, meterRegistry.get("auth.password.hash").tag("operation", "encode").timer().count());
+    }
+
+    @Test
+    void saturatedPool_RejectsImmediatelyWithRetryAfter() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder blocking = new BCryptPasswordEncoder(4) {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.encode(rawPassword);
+            }
+        };
+        passwordHasher = new PasswordHasher(blocking, meterRegistry, 1, 1, Duration.ofSeconds(10), Duration.ofSeconds(3));
+
+        // One running, one queued: the next caller has nowhere to go
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> passwordHasher.encode("a"));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> passwordHasher.encode("b"));
+        while (meterRegistry.get("executor.queued").tag("name", "password.hashing").gauge().value() < 1) {
+            Thread.onSpinWait();
+        }
+
+        ApplicationException.ServiceUnavailableException e = assertThrows(ApplicationException.ServiceUnavailableException.class,
+                () -> passwordHasher.encode("c"));
+        assertEquals(3, e.getRetryAfterSeconds());
+        assertEquals(1.0, meterRegistry.get("auth.password.rejected").counter().count());
+
+        release.countDown();
+        assertNotNull(running.get(5, TimeUnit.SECONDS));
+        assertNotNull(queued.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void slowHash_TimesOutAsUnavailable() {
+        PasswordEncoder slow = new BCryptPasswordEncoder(4) {
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                try {
+                    Thread.sleep(5_000);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return false;
+            }
+        };
+        passwordHasher = new PasswordHasher(slow, meterRegistry, 1, 1, Duration.ofMillis(100), Duration.ofSeconds(2));
+
+        assertThrows(ApplicationException.ServiceUnavailableException.class, () -> passwordHasher.verify("a", "b"));
+    }
+
+    @Test
+    void timedOutHashes_KeepTheirSlotsUntilTheyFinish() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch finished = new CountDownLatch(2);
+        AtomicBoolean interrupted = new AtomicBoolean();
+        PasswordEncoder stuck = new BCryptPasswordEncoder(4) {
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    interrupted.set(true);
+                }
+                finished.countDown();
+                return false;
+            }
+        };
+        passwordHasher = new PasswordHasher(stuck, meterRegistry, 1, 1, Duration.ofMillis(100), Duration.ofSeconds(2));
+
+        // One abandoned hash holds the thread and the next the queue
+        for (int i = 0; i < 2; i++) {
+            ApplicationException.ServiceUnavailableException e = assertThrows(ApplicationException.ServiceUnavailableException.class,
+                    () -> passwordHasher.verify("a", "b"));
+            assertTrue(e.getMessage().contains("taking too long"));
+        }
+        ApplicationException.ServiceUnavailableException e = assertThrows(ApplicationException.ServiceUnavailableException.class,
+                () -> passwordHasher.verify("a", "b"));
+        assertTrue(e.getMessage().contains("Too many sign-in requests"));
+
+        // Neither was interrupted or dropped from the queue
+        release.countDown();
+        assertTrue(finished.await(5, TimeUnit.SECONDS));
+        assertFalse(interrupted.get());
+    }
+}
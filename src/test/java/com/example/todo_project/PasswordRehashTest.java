@@ -0,0 +1,75 @@
+package com.example.todo_project;
+
+import com.example.todo_project.entity.Role;
+import com.example.todo_project.entity.User;
+import com.example.todo_project.repository.UserRepository;
+import com.example.todo_project.service.AuthService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class PasswordRehashTest {
+
+    private static final String EMAIL = "rehash@example.com";
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @AfterEach
+    void tearDown() {
+        userRepository.findByEmail(EMAIL).ifPresent(userRepository::delete);
+    }
+
+    // Written before the {bcrypt} prefix existed, at a lower cost than configured
+    private User saveWithLegacyHash() {
+        return userRepository.save(new User(null, EMAIL, new BCryptPasswordEncoder(4).encode("secret"), "Rehash User", Role.USER));
+    }
+
+    @Test
+    void login_WritesTheUpgradedHashBack() {
+        User user = saveWithLegacyHash();
+        String legacy = user.getPassword();
+
+        authService.loginUser(EMAIL, "secret");
+
+        // Both cache entries were evicted, so these read the new row
+        String stored = userRepository.findById(user.getId()).orElseThrow().getPassword();
+        assertNotEquals(legacy, stored);
+        assertTrue(stored.startsWith("{bcrypt}"));
+        assertTrue(passwordEncoder.matches("secret", stored));
+        assertFalse(passwordEncoder.upgradeEncoding(stored));
+        assertEquals(stored, userRepository.findByEmail(EMAIL).orElseThrow().getPassword());
+
+        // A current hash is left alone
+        authService.loginUser(EMAIL, "secret");
+        assertEquals(stored, userRepository.findById(user.getId()).orElseThrow().getPassword());
+    }
+
+    @Test
+    void updatePasswordHash_SkipsAHashThatChangedSinceItWasVerified() {
+        User verified = saveWithLegacyHash();
+        User changed = userRepository.findById(verified.getId()).orElseThrow();
+        changed.setPassword(passwordEncoder.encode("changed"));
+        userRepository.save(changed);
+
+        assertEquals(0, userRepository.updatePasswordHash(verified, passwordEncoder.encode("secret")));
+        assertTrue(passwordEncoder.matches("changed", userRepository.findById(verified.getId()).orElseThrow().getPassword()));
+    }
+}
@@ -0,0 +1,168 @@
+package com.example.todo_project;
+
+import com.example.todo_project.entity.Role;
+import com.example.todo_project.entity.User;
+import com.example.todo_project.repository.TodoRepository;
+import com.example.todo_project.repository.UserRepository;
+import com.example.todo_project.utils.JwtUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {"app.rate-limit.read.capacity=3", "app.rate-limit.write.capacity=1", "app.rate-limit.auth.capacity=3",
+        "app.rate-limit.auth-address.capacity=2", "app.rate-limit.anonymous.capacity=2"})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class RateLimitFilterTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    private User hot;
+    private User quiet;
+
+    @BeforeEach
+    void setUp() {
+        hot = userRepository.save(new User(null, "hot@example.com", "password", "Hot Tenant", Role.USER));
+        quiet = userRepository.save(new User(null, "quiet@example.com", "password", "Quiet Tenant", Role.USER));
+    }
+
+    @AfterEach
+    void tearDown() {
+        todoRepository.deleteAll();
+        userRepository.delete(hot);
+        userRepository.delete(quiet);
+    }
+
+    private String bearer(User user) {
+        return "Bearer " + jwtUtil.generateToken(user.getId(), user.getName(), user.getEmail(), user.getRole());
+    }
+
+    @Test
+    void readBudget_IsPerUserAndSeparateFromWrites() throws Exception {
+        String hotToken = bearer(hot);
+        for (int remaining = 2; remaining >= 0; remaining--) {
+            mockMvc.perform(get("/api/tasks/all-tasks").header("Authorization", hotToken))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("RateLimit-Limit", "3"))
+                    .andExpect(header().string("RateLimit-Remaining", String.valueOf(remaining)));
+        }
+        mockMvc.perform(get("/api/tasks/all-tasks").header("Authorization", hotToken))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists("Retry-After"))
+                .andExpect(jsonPath("$.status").value(429));
+
+        // Someone else's reads and the hot user's own writes are unaffected
+        mockMvc.perform(get("/api/tasks/all-tasks").header("Authorization", bearer(quiet)))
+                .andExpect(status().isOk());
+        mockMvc.perform(post("/api/tasks").header("Authorization", hotToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\": \"Still allowed\", \"priority\": \"LOW\"}"))
+                .andExpect(status().is2xxSuccessful())
+                .andExpect(header().string("RateLimit-Limit", "1"));
+    }
+
+    private static RequestPostProcessor from(String address) {
+        return request -> {
+            request.setRemoteAddr(address);
+            return request;
+        };
+    }
+
+    private static MockHttpServletRequestBuilder login(String email, String address) {
+        return post("/auth/login").with(from(address))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"email\": \"" + email + "\", \"password\": \"x\"}");
+    }
+
+    @Test
+    void loginBudget_IsKeyedBySubmittedEmail() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(login("nobody@example.com", "10.0.0." + i))
+                    .andExpect(status().isNotFound());
+        }
+        // A fourth address does not buy more guesses at the same account, in any letter case
+        mockMvc.perform(login("NoBody@Example.com", "10.0.0.3"))
+                .andExpect(status().isTooManyRequests());
+        // Another account is still open, and the body still reaches the controller
+        mockMvc.perform(login("somebody@example.com", "10.0.0.4"))
+                .andExpect(status().isNotFound())
+                .andExpect(header().string("RateLimit-Limit", "2"))
+                .andExpect(header().string("RateLimit-Remaining", "1"));
+    }
+
+    @Test
+    void loginBudget_IsAlsoKeyedByAddress_SoRotatingEmailsDoesNotHelp() throws Exception {
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(login("guess" + i + "@example.com", "10.0.2.1"))
+                    .andExpect(status().isNotFound());
+        }
+        // A fresh email has a full bucket of its own, but the address has none left
+        mockMvc.perform(login("guess2@example.com", "10.0.2.1"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists("Retry-After"));
+        mockMvc.perform(login("guess2@example.com", "10.0.2.2"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void oneAddress_CannotLockAnAccountsOwnerOut() throws Exception {
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(login("victim@example.com", "10.0.3.1"))
+                    .andExpect(status().isNotFound());
+        }
+        // Refused by the address bucket, these never reach the account's bucket
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(login("victim@example.com", "10.0.3.1"))
+                    .andExpect(status().isTooManyRequests());
+        }
+        mockMvc.perform(login("victim@example.com", "10.0.3.2"))
+                .andExpect(status().isNotFound())
+                .andExpect(header().string("RateLimit-Limit", "3"))
+                .andExpect(header().string("RateLimit-Remaining", "0"));
+    }
+
+    @Test
+    void refresh_HasItsOwnBudgetKeyedByAddress() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(login("spent@example.com", "10.0.1.1"));
+        }
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(post("/auth/refresh").with(from("10.0.1.1"))
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"refreshToken\": \"not-a-token\"}"))
+                    .andExpect(status().isUnauthorized());
+        }
+        mockMvc.perform(post("/auth/refresh").with(from("10.0.1.1"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"refreshToken\": \"not-a-token\"}"))
+                .andExpect(status().isTooManyRequests());
+        mockMvc.perform(post("/auth/refresh").with(from("10.0.1.2"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"refreshToken\": \"not-a-token\"}"))
+                .andExpect(status().isUnauthorized());
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.todo_project;
+
+import com.example.todo_project.dto.TodoResponseDTO;
+import com.example.todo_project.entity.Priority;
+import com.example.todo_project.entity.Role;
+import com.example.todo_project.entity.Todo;
+import com.example.todo_project.entity.User;
+import com.example.todo_project.repository.ReactiveTaskRepository;
+import com.example.todo_project.repository.TodoRepository;
+import com.example.todo_project.repository.UserRepository;
+import io.r2dbc.spi.R2dbcTimeoutException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscription;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import reactor.core.publisher.BaseSubscriber;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// A pool of one: while a slow reader holds the connection, the next query waits without a thread, then times out
+@SpringBootTest(properties = {
+        "app.r2dbc.pool.max-size=1",
+        "app.r2dbc.pool.acquire-timeout=200ms"
+})
+@ActiveProfiles("test")
+public class ReactivePoolLimitTest {
+
+    @Autowired
+    private ReactiveTaskRepository reactiveTaskRepository;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(new User(null, "reactive-pool@example.com", "password", "Pool User", Role.USER));
+        todoRepository.save(new Todo(0, "First", null, null, Priority.LOW, false, user));
+        todoRepository.save(new Todo(0, "Second", null, null, Priority.LOW, false, user));
+    }
+
+    @AfterEach
+    void tearDown() {
+        todoRepository.deleteAll();
+        userRepository.delete(user);
+    }
+
+    @Test
+    void fullPool_TimesOutWaitingCallersAndRecovers() throws InterruptedException {
+        // Takes one row and then stops asking, so the query keeps its connection
+        CountDownLatch firstRow = new CountDownLatch(1);
+        BaseSubscriber<TodoResponseDTO> slowReader = new BaseSubscriber<>() {
+            @Override
+            protected void hookOnSubscribe(Subscription subscription) {
+                subscription.request(1);
+            }
+
+            @Override
+            protected void hookOnNext(TodoResponseDTO value) {
+                firstRow.countDown();
+            }
+        };
+        reactiveTaskRepository.findByUserEmail(user.getEmail(), null, null).subscribe(slowReader);
+        assertTrue(firstRow.await(5, TimeUnit.SECONDS));
+        assertEquals(1, reactiveTaskRepository.getPoolMetrics().acquiredSize());
+
+        StepVerifier.create(reactiveTaskRepository.findByUserEmail(user.getEmail(), null, null))
+                .expectErrorMatches(e -> e.getCause() instanceof R2dbcTimeoutException)
+                .verify(Duration.ofSeconds(5));
+
+        slowReader.dispose();
+        StepVerifier.create(reactiveTaskRepository.findByUserEmail(user.getEmail(), null, null).count())
+                .expectNext(2L)
+                .verifyComplete();
+    }
+}
@@ -0,0 +1,160 @@
+package com.example.todo_project;
+
+import com.example.todo_project.dto.TodoResponseDTO;
+import com.example.todo_project.entity.Priority;
+import com.example.todo_project.entity.Role;
+import com.example.todo_project.entity.Todo;
+import com.example.todo_project.entity.User;
+import com.example.todo_project.repository.ReactiveTaskRepository;
+import com.example.todo_project.repository.TodoRepository;
+import com.example.todo_project.repository.UserRepository;
+import com.example.todo_project.utils.JwtUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class ReactiveTaskRepositoryTest {
+
+    @Autowired
+    private ReactiveTaskRepository reactiveTaskRepository;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private User user;
+    private User other;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(new User(null, "reactive@example.com", "password", "Reactive User", Role.USER));
+        other = userRepository.save(new User(null, "other-reactive@example.com", "password", "Other User", Role.USER));
+        todoRepository.save(new Todo(0, "Write report", "quarterly", LocalDate.now(), Priority.HIGH, false, user));
+        todoRepository.save(new Todo(0, "100% done_ish", null, null, Priority.LOW, true, user));
+        todoRepository.save(new Todo(0, "Write report", "someone else's", null, Priority.HIGH, false, other));
+    }
+
+    @AfterEach
+    void tearDown() {
+        todoRepository.deleteAll();
+        userRepository.delete(user);
+        userRepository.delete(other);
+    }
+
+    @Test
+    void reads_AreScopedToTheUserAndMappedLikeTheJpaFinders() {
+        StepVerifier.create(reactiveTaskRepository.findByUserEmail(user.getEmail(), null, null))
+                .assertNext(task -> {
+                    assertEquals("Write report", task.getTitle());
+                    assertEquals(Priority.HIGH, task.getPriority());
+                    assertEquals(LocalDate.now(), task.getDueDate());
+                    assertEquals(user.getId(), task.getUser().getId());
+                    assertEquals(Role.USER, task.getUser().getRole());
+                })
+                .assertNext(task -> assertTrue(task.isCompleted()))
+                .verifyComplete();
+
+        StepVerifier.create(reactiveTaskRepository.findByUserEmailAndTitleContaining(user.getEmail(), "0% DONE_", null, null))
+                .assertNext(task -> assertEquals("100% done_ish", task.getTitle()))
+                .verifyComplete();
+        StepVerifier.create(reactiveTaskRepository.findByUserEmailAndTitleContaining(user.getEmail(), "_", null, null))
+                .assertNext(task -> assertEquals("100% done_ish", task.getTitle()))
+                .verifyComplete();
+        StepVerifier.create(reactiveTaskRepository.findByUserEmailAndCompleted(user.getEmail(), false, null, null).map(TodoResponseDTO::getTitle))
+                .expectNext("Write report")
+                .verifyComplete();
+        StepVerifier.create(reactiveTaskRepository.findByUserEmailAndDueDate(user.getEmail(), LocalDate.now(), null, 1).count())
+                .expectNext(1L)
+                .verifyComplete();
+
+        Long othersTask = todoRepository.findDtosByUserEmailAfter(other.getEmail(), 0L,
+                PageRequest.of(0, 1)).getContent().get(0).getId();
+        StepVerifier.create(reactiveTaskRepository.findByIdAndUserEmail(othersTask, user.getEmail()))
+                .verifyComplete();
+    }
+
+    @Test
+    void listEndpoint_StreamsNdjsonInIdOrder() throws Exception {
+        String token = jwtUtil.generateToken(user.getId(), user.getName(), user.getEmail(), user.getRole());
+
+        MvcResult started = mockMvc.perform(get("/api/reactive/tasks")
+                        .header("Authorization", "Bearer " + token)
+                        .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String body = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = body.trim().split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].contains("\"title\":\"Write report\""));
+        assertTrue(lines[1].contains("\"completed\":true"));
+    }
+
+    @Test
+    void queries_ReturnTheirPooledConnection() {
+        assertEquals(4, reactiveTaskRepository.getPoolMetrics().getMaxAllocatedSize());
+
+        StepVerifier.create(reactiveTaskRepository.findByUserEmail(user.getEmail(), null, null))
+                .assertNext(task -> assertEquals(1, reactiveTaskRepository.getPoolMetrics().acquiredSize()))
+                .expectNextCount(1)
+                .verifyComplete();
+        assertEquals(0, reactiveTaskRepository.getPoolMetrics().acquiredSize());
+
+        // Cancelling part-way through hands the connection back too
+        StepVerifier.create(reactiveTaskRepository.findByUserEmail(user.getEmail(), null, null).take(1))
+                .expectNextCount(1)
+                .verifyComplete();
+        assertEquals(0, reactiveTaskRepository.getPoolMetrics().acquiredSize());
+    }
+
+    @Test
+    void limitAboveTheCap_IsRejected() throws Exception {
+        String token = jwtUtil.generateToken(user.getId(), user.getName(), user.getEmail(), user.getRole());
+
+        mockMvc.perform(get("/api/reactive/tasks").param("limit", "1001")
+                        .header("Authorization", "Bearer " + token)
+                        .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void r2dbcUrl_IsDerivedFromTheJdbcUrl() {
+        assertEquals("r2dbc:mysql://db:3306/todo_application",
+                ReactiveTaskRepository.toR2dbcUrl("jdbc:mysql://db:3306/todo_application?rewriteBatchedStatements=true"));
+        assertEquals("r2dbc:h2:mem:///todo;MODE=MySQL",
+                ReactiveTaskRepository.toR2dbcUrl("jdbc:h2:mem:todo;MODE=MySQL"));
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.todo_project;
+
+import com.example.todo_project.dto.LoginResponseDTO;
+import com.example.todo_project.dto.RegisterRequestDTO;
+import com.example.todo_project.entity.RefreshToken;
+import com.example.todo_project.entity.Role;
+import com.example.todo_project.exception.ApplicationException;
+import com.example.todo_project.repository.RefreshTokenRepository;
+import com.example.todo_project.repository.UserRepository;
+import com.example.todo_project.service.AuthService;
+import com.example.todo_project.utils.JwtUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class RefreshTokenTest {
+
+    private static final String EMAIL = "refresh@example.com";
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        authService.registerUser(new RegisterRequestDTO(EMAIL, "password123", "password123", "Refresh User", Role.USER));
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.findByEmail(EMAIL).ifPresent(userRepository::delete);
+    }
+
+    @Test
+    void refresh_RotatesTokensAndIssuesShortLivedAccessToken() {
+        LoginResponseDTO login = authService.loginUser(EMAIL, "password123");
+        assertNotNull(login.getRefreshToken());
+        assertEquals(jwtUtil.getAccessTokenTtl().toSeconds(), login.getExpiresIn());
+        assertTrue(login.getExpiresIn() <= 3600);
+
+        LoginResponseDTO refreshed = authService.refresh(login.getRefreshToken());
+        assertEquals(EMAIL, jwtUtil.extractUsername(refreshed.getToken()));
+        assertNotEquals(login.getRefreshToken(), refreshed.getRefreshToken());
+
+        // Only digests are stored
+        assertTrue(refreshTokenRepository.findAll().stream()
+                .noneMatch(row -> row.getTokenHash().equals(refreshed.getRefreshToken())));
+    }
+
+    @Test
+    void reusedToken_RevokesEveryTokenOfTheUser() {
+        LoginResponseDTO login = authService.loginUser(EMAIL, "password123");
+        LoginResponseDTO refreshed = authService.refresh(login.getRefreshToken());
+
+        assertThrows(ApplicationException.InvalidRefreshTokenException.class, () -> authService.refresh(login.getRefreshToken()));
+        assertThrows(ApplicationException.InvalidRefreshTokenException.class, () -> authService.refresh(refreshed.getRefreshToken()));
+        assertFalse(refreshTokenRepository.findAll().stream().anyMatch(row -> !row.isRevoked()));
+
+        // Logging in again clears out the used rows
+        authService.loginUser(EMAIL, "password123");
+        assertEquals(1, refreshTokenRepository.count());
+    }
+
+    @Test
+    void refresh_PurgesRowsRevokedBeforeTheReuseWindow() {
+        LoginResponseDTO login = authService.loginUser(EMAIL, "password123");
+        LoginResponseDTO first = authService.refresh(login.getRefreshToken());
+
+        // Age the row spent by the first refresh past the one-day window
+        RefreshToken spent = refreshTokenRepository.findAll().stream().filter(RefreshToken::isRevoked).findFirst().orElseThrow();
+        spent.setRevokedAt(Instant.now().minus(Duration.ofDays(2)));
+        refreshTokenRepository.save(spent);
+
+        LoginResponseDTO second = authService.refresh(first.getRefreshToken());
+        assertEquals(2, refreshTokenRepository.count());
+        assertFalse(refreshTokenRepository.existsById(spent.getId()));
+
+        // The row spent just now is kept, so presenting it again is still caught as reuse
+        assertThrows(ApplicationException.InvalidRefreshTokenException.class, () -> authService.refresh(first.getRefreshToken()));
+        assertThrows(ApplicationException.InvalidRefreshTokenException.class, () -> authService.refresh(second.getRefreshToken()));
+    }
+
+    @Test
+    void refreshEndpoint_IsPublicAndRejectsUnknownTokens() throws Exception {
+        LoginResponseDTO login = authService.loginUser(EMAIL, "password123");
+
+        mockMvc.perform(post("/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"refreshToken\": \"" + login.getRefreshToken() + "\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.email").value(EMAIL))
+                .andExpect(jsonPath("$.data.refreshToken").isNotEmpty());
+
+        mockMvc.perform(post("/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"refreshToken\": \"not-a-token\"}"))
+                .andExpect(status().isUnauthorized());
+    }
+}
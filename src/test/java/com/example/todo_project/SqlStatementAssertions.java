@@ -0,0 +1,37 @@
+package com.example.todo_project;
+
+import com.example.todo_project.utils.SqlStatementStats;
+
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+// Fails when an action runs more SQL statements than allowed, listing what it ran. Needs the application
+// context's DataSource, so it only works in @SpringBootTest classes.
+public final class SqlStatementAssertions {
+
+    private SqlStatementAssertions() {
+    }
+
+    public static <T> T assertMaxStatements(int max, Supplier<T> action) {
+        SqlStatementStats stats = SqlStatementStats.open(true);
+        T result;
+        try {
+            result = action.get();
+        } finally {
+            stats.close();
+        }
+        if (stats.getCount() > max) {
+            fail("Expected at most " + max + " SQL statements but " + stats.getCount() + " ran:\n  "
+                    + String.join("\n  ", stats.getStatements()));
+        }
+        return result;
+    }
+
+    public static void assertMaxStatements(int max, Runnable action) {
+        assertMaxStatements(max, () -> {
+            action.run();
+            return null;
+        });
+    }
+}
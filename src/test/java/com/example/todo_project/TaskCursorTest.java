@@ -0,0 +1,53 @@
+package com.example.todo_project;
+
+import com.example.todo_project.exception.ApplicationException;
+import com.example.todo_project.utils.TaskCursor;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class TaskCursorTest {
+
+    private static String base64(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void encodeDecode_RoundTrips() {
+        for (long id : new long[]{1L, 42L, 1_000_000_007L, Long.MAX_VALUE}) {
+            String cursor = TaskCursor.encode(id);
+            assertFalse(cursor.contains(String.valueOf(id)), "cursor should be opaque");
+            assertEquals(id, TaskCursor.decode(cursor));
+        }
+    }
+
+    @Test
+    void blankCursor_StartsFromTheBeginning() {
+        assertEquals(0L, TaskCursor.decode(null));
+        assertEquals(0L, TaskCursor.decode(""));
+    }
+
+    @Test
+    void garbageCursor_IsAnInvalidRequest() {
+        for (String cursor : new String[]{"not a cursor!", base64("v1:abc"), base64("v2:5"), base64("5"), "%%%"}) {
+            assertThrows(ApplicationException.InvalidRequestException.class, () -> TaskCursor.decode(cursor), cursor);
+        }
+    }
+
+    @Test
+    void rankedCursor_RoundTripsAndIsNotAnIdCursor() {
+        String cursor = TaskCursor.encodeRanked(4, 42L);
+        assertEquals(new TaskCursor.Ranked(4, 42L), TaskCursor.decodeRanked(cursor));
+        assertNull(TaskCursor.decodeRanked(""));
+        assertThrows(ApplicationException.InvalidRequestException.class, () -> TaskCursor.decode(cursor));
+        for (String garbage : new String[]{TaskCursor.encode(42L), base64("v1r:4"), base64("v1r:x:42"), "%%%"}) {
+            assertThrows(ApplicationException.InvalidRequestException.class, () -> TaskCursor.decodeRanked(garbage), garbage);
+        }
+    }
+}
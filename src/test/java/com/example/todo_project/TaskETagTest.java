@@ -0,0 +1,135 @@
+package com.example.todo_project;
+
+import com.example.todo_project.dto.TodoPatchDTO;
+import com.example.todo_project.entity.Priority;
+import com.example.todo_project.entity.Role;
+import com.example.todo_project.entity.Todo;
+import com.example.todo_project.entity.User;
+import com.example.todo_project.repository.TodoRepository;
+import com.example.todo_project.repository.UserRepository;
+import com.example.todo_project.service.TodoService;
+import com.example.todo_project.utils.JwtUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static com.example.todo_project.SqlStatementAssertions.assertMaxStatements;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class TaskETagTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TodoService todoService;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    private User user;
+    private User other;
+    private Todo task;
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(new User(null, "etag@example.com", "password", "ETag User", Role.USER));
+        other = userRepository.save(new User(null, "other-etag@example.com", "password", "Other User", Role.USER));
+        task = todoRepository.save(new Todo(0, "Poll me", null, null, Priority.LOW, false, user));
+        token = "Bearer " + jwtUtil.generateToken(user.getId(), user.getName(), user.getEmail(), user.getRole());
+    }
+
+    @AfterEach
+    void tearDown() {
+        todoRepository.deleteAll();
+        userRepository.delete(user);
+        userRepository.delete(other);
+    }
+
+    private String fetchETag(String path) throws Exception {
+        String etag = mockMvc.perform(get(path).header("Authorization", token))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "private, no-cache"))
+                .andReturn().getResponse().getHeader("ETag");
+        assertNotNull(etag);
+        return etag;
+    }
+
+    @Test
+    void unchangedData_IsAnswered304WithoutAnyQuery() throws Exception {
+        String etag = fetchETag("/api/tasks/all-tasks");
+
+        assertMaxStatements(0, () -> {
+            try {
+                mockMvc.perform(get("/api/tasks/all-tasks").header("Authorization", token).header("If-None-Match", etag))
+                        .andExpect(status().isNotModified())
+                        .andExpect(header().string("ETag", etag))
+                        .andExpect(content().string(""));
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+
+    @Test
+    void everyKindOfWrite_ChangesTheETag() throws Exception {
+        String etag = fetchETag("/api/tasks/completed?completed=false");
+
+        todoService.patchTask(task.getId(), new TodoPatchDTO(null, null, Priority.HIGH, null, null), user.getEmail());
+        String afterPatch = fetchETag("/api/tasks/completed?completed=false");
+        assertNotEquals(etag, afterPatch);
+
+        todoService.setCompletion(List.of(task.getId()), true, user.getEmail());
+        String afterBulk = fetchETag("/api/tasks/" + task.getId());
+        assertNotEquals(afterPatch, afterBulk);
+
+        // A bulk update that matches nothing leaves the version alone
+        todoService.setCompletion(List.of(task.getId()), true, user.getEmail());
+        mockMvc.perform(get("/api/tasks/" + task.getId()).header("Authorization", token).header("If-None-Match", afterBulk))
+                .andExpect(status().isNotModified());
+
+        todoService.deleteTask(task.getId(), user.getEmail());
+        mockMvc.perform(get("/api/tasks/all-tasks").header("Authorization", token).header("If-None-Match", afterBulk))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void missingTask_IsNotTagged_SoItCannotBeRevalidatedInto304() throws Exception {
+        String missing = "/api/tasks/" + (task.getId() + 1000);
+        mockMvc.perform(get(missing).header("Authorization", token))
+                .andExpect(status().isNotFound())
+                .andExpect(header().doesNotExist("ETag"));
+    }
+
+    @Test
+    void otherUsersWrites_DoNotInvalidate() throws Exception {
+        String etag = fetchETag("/api/tasks/due-today");
+
+        todoService.createTask(new Todo(0, "Unrelated", null, null, Priority.LOW, false, null), other.getEmail());
+
+        mockMvc.perform(get("/api/tasks/due-today").header("Authorization", token).header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.todo_project;
+
+import com.example.todo_project.dto.TodoResponseDTO;
+import com.example.todo_project.entity.Priority;
+import com.example.todo_project.utils.TaskExportFormat;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class TaskExportFormatTest {
+
+    private final TodoResponseDTO plain = new TodoResponseDTO(1L, "Buy milk", null, Priority.LOW, LocalDate.of(2024, 5, 1), false, null);
+    private final TodoResponseDTO quoted = new TodoResponseDTO(2L, "Say \"hi\", then", "two\nlines", null, null, true, null);
+
+    @Test
+    void ndjson_WritesOneObjectPerLine() throws IOException {
+        assertEquals("{\"id\":1,\"title\":\"Buy milk\",\"description\":null,\"priority\":\"LOW\",\"dueDate\":\"2024-05-01\",\"completed\":false}\n"
+                        + "{\"id\":2,\"title\":\"Say \\\"hi\\\", then\",\"description\":\"two\\nlines\",\"priority\":null,\"dueDate\":null,\"completed\":true}\n",
+                export(TaskExportFormat.NDJSON));
+    }
+
+    @Test
+    void csv_QuotesFieldsThatNeedIt() throws IOException {
+        assertEquals("id,title,description,priority,dueDate,completed\r\n"
+                        + "1,Buy milk,,LOW,2024-05-01,false\r\n"
+                        + "2,\"Say \"\"hi\"\", then\",\"two\nlines\",,,true\r\n",
+                export(TaskExportFormat.CSV));
+    }
+
+    private String export(TaskExportFormat format) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (TaskExportFormat.RowWriter writer = format.open(out)) {
+            writer.write(plain);
+            writer.write(quoted);
+        }
+        return out.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.todo_project;
+
+import com.example.todo_project.entity.Priority;
+import com.example.todo_project.entity.Role;
+import com.example.todo_project.entity.Todo;
+import com.example.todo_project.entity.User;
+import com.example.todo_project.repository.TodoRepository;
+import com.example.todo_project.repository.UserRepository;
+import com.example.todo_project.service.TodoService;
+import com.example.todo_project.utils.BulkheadDataSource;
+import com.example.todo_project.utils.TaskExportFormat;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// A zero budget: the export is cut off at its first flush, which comes every hundred rows
+@SpringBootTest(properties = "app.export.max-duration=0s")
+@ActiveProfiles("test")
+public class TaskExportTest {
+
+    @Autowired
+    private TodoService todoService;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(new User(null, "export@example.com", "password", "Export User", Role.USER));
+    }
+
+    @AfterEach
+    void tearDown() {
+        todoRepository.deleteAll();
+        userRepository.delete(user);
+    }
+
+    private void createTasks(int count) {
+        List<Todo> tasks = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            tasks.add(new Todo(0, "Export " + i, null, null, Priority.LOW, false, user));
+        }
+        todoRepository.saveAll(tasks);
+    }
+
+    @Test
+    void shortExport_StreamsEveryTaskInIdOrder() throws IOException {
+        createTasks(3);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        assertEquals(3, todoService.exportTasks(user.getEmail(), TaskExportFormat.NDJSON, out));
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(3, lines.length);
+        assertTrue(lines[0].contains("\"Export 0\""));
+        assertTrue(lines[2].contains("\"Export 2\""));
+    }
+
+    @Test
+    void exportPastItsDeadline_IsAbortedAndReleasesTheConnection() {
+        createTasks(150);
+
+        assertThrows(IOException.class, () -> todoService.exportTasks(user.getEmail(), TaskExportFormat.NDJSON, new ByteArrayOutputStream()));
+        // The stream was closed, so its connection and permit went back
+        BulkheadDataSource bulkhead = assertInstanceOf(BulkheadDataSource.class, dataSource);
+        assertEquals(bulkhead.getMaxConcurrent(), bulkhead.getAvailablePermits());
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.todo_project;
+
+import com.example.todo_project.dto.ImportSummaryDTO;
+import com.example.todo_project.entity.Priority;
+import com.example.todo_project.entity.Role;
+import com.example.todo_project.entity.Todo;
+import com.example.todo_project.entity.User;
+import com.example.todo_project.repository.TodoRepository;
+import com.example.todo_project.repository.UserRepository;
+import com.example.todo_project.service.TaskImportService;
+import com.example.todo_project.service.TodoService;
+import com.example.todo_project.utils.TaskExportFormat;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class TaskImportServiceTest {
+
+    @Autowired
+    private TaskImportService taskImportService;
+
+    @Autowired
+    private TodoService todoService;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(new User(null, "import@example.com", "password", "Import User", Role.USER));
+    }
+
+    @AfterEach
+    void tearDown() {
+        todoRepository.deleteAll();
+        userRepository.delete(user);
+    }
+
+    @Test
+    void importNdjson_ImportsValidLinesAndReportsTheRest() throws IOException {
+        todoService.createTasks(List.of(new Todo(0, "Existing", null, null, Priority.LOW, false, null)), user.getEmail());
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < 1200; i++) {
+            body.append("{\"title\":\"Imported ").append(i).append("\",\"priority\":\"high\",\"dueDate\":\"2030-01-01\"}\n");
+        }
+        body.append("{\"title\":\"Existing\"}\n");
+        body.append("\n");
+        body.append("{\"title\":\"Bad date\",\"dueDate\":\"tomorrow\"}\n");
+        body.append("not json\n");
+        body.append("{\"description\":\"no title\"}");
+
+        ImportSummaryDTO summary = taskImportService.importTasks(user.getEmail(), TaskExportFormat.NDJSON, stream(body.toString()));
+
+        assertEquals(1204, summary.getRecords());
+        assertEquals(1200, summary.getImported());
+        assertEquals(1, summary.getDuplicates());
+        assertEquals(3, summary.getFailed());
+        assertEquals(List.of(1203L, 1204L, 1205L), summary.getErrors().stream().map(error -> error.getLine()).toList());
+        assertEquals(1201, todoRepository.countByUserEmail(user.getEmail()));
+    }
+
+    @Test
+    void importCsv_ReadsTheExportFormat() throws IOException {
+        String body = "id,title,description,priority,dueDate,completed\r\n"
+                + "7,Plain,,LOW,2030-01-01,false\r\n"
+                + "8,\"Quoted, \"\"title\"\"\",\"spans\ntwo lines\",,,true\r\n"
+                + "9,Plain,,LOW,,false\r\n"
+                + "10,Short row\r\n";
+
+        ImportSummaryDTO summary = taskImportService.importTasks(user.getEmail(), TaskExportFormat.CSV, stream(body));
+
+        assertEquals(2, summary.getImported());
+        assertEquals(1, summary.getDuplicates());
+        assertEquals(1, summary.getFailed());
+        assertEquals(6L, summary.getErrors().get(0).getLine());
+        assertTrue(todoRepository.findTextViewsByUserId(user.getId()).stream()
+                .anyMatch(view -> "Quoted, \"title\"".equals(view.getTitle()) && "spans\ntwo lines".equals(view.getDescription())));
+    }
+
+    private static InputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,261 @@
+package com.example.todo_project;
+
+import com.example.todo_project.entity.Priority;
+import com.example.todo_project.entity.Role;
+import com.example.todo_project.entity.Todo;
+import com.example.todo_project.entity.User;
+import com.example.todo_project.repository.TodoRepository;
+import com.example.todo_project.repository.UserRepository;
+import com.example.todo_project.utils.JwtUtil;
+import com.example.todo_project.utils.TaskCursor;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class TaskPagingTest {
+
+    private static final int TASKS = 7;
+    private static final int PAGE_SIZE = 3;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private User user;
+    private String token;
+    private List<Long> ids;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(new User(null, "paging@example.com", "password", "Paging User", Role.USER));
+        List<Todo> tasks = new ArrayList<>();
+        for (int i = 0; i < TASKS; i++) {
+            tasks.add(new Todo(0, "Page task " + i, null, null, i % 2 == 0 ? Priority.HIGH : Priority.LOW, false, user));
+        }
+        ids = todoRepository.saveAll(tasks).stream().map(Todo::getId).sorted().toList();
+        token = "Bearer " + jwtUtil.generateToken(user.getId(), user.getName(), user.getEmail(), user.getRole());
+    }
+
+    @AfterEach
+    void tearDown() {
+        todoRepository.deleteAll();
+        userRepository.delete(user);
+    }
+
+    private MockHttpServletResponse fetch(String path, String cursor) throws Exception {
+        return mockMvc.perform(get(path).header("Authorization", token)
+                        .param("size", String.valueOf(PAGE_SIZE))
+                        .param("cursor", cursor))
+                .andExpect(status().isOk())
+                .andReturn().getResponse();
+    }
+
+    private static List<Long> idsOf(MockHttpServletResponse response, ObjectMapper objectMapper) throws Exception {
+        List<Long> ids = new ArrayList<>();
+        for (JsonNode task : objectMapper.readTree(response.getContentAsString()).get("data")) {
+            ids.add(task.get("id").asLong());
+        }
+        return ids;
+    }
+
+    @Test
+    void seek_WalksEveryTaskOnceAndStopsOnTheLastPage() throws Exception {
+        List<Long> seen = new ArrayList<>();
+        String cursor = "";
+        int pages = 0;
+        while (cursor != null) {
+            MockHttpServletResponse response = fetch("/api/tasks/all-tasks", cursor);
+            List<Long> page = idsOf(response, objectMapper);
+            seen.addAll(page);
+            pages++;
+            cursor = response.getHeader("X-Next-Cursor");
+            if (cursor != null) {
+                assertEquals(PAGE_SIZE, page.size());
+                assertEquals(TaskCursor.encode(page.get(page.size() - 1)), cursor);
+            }
+        }
+
+        // No gaps, no duplicates, in id order; the last page carries no cursor
+        assertEquals(ids, seen);
+        assertEquals(3, pages);
+    }
+
+    @Test
+    void seek_IsUnaffectedByDeletesBehindTheCursor() throws Exception {
+        MockHttpServletResponse first = fetch("/api/tasks/all-tasks", "");
+        String cursor = first.getHeader("X-Next-Cursor");
+        assertNotNull(cursor);
+
+        // An offset page would now skip a task; the seek key does not move
+        todoRepository.deleteById(ids.get(0));
+        assertEquals(ids.subList(PAGE_SIZE, 2 * PAGE_SIZE), idsOf(fetch("/api/tasks/all-tasks", cursor), objectMapper));
+    }
+
+    @Test
+    void seek_OnAFilteredListEndsWithoutCursor() throws Exception {
+        MockHttpServletResponse first = fetch("/api/tasks/by-priority?priority=HIGH", "");
+        List<Long> high = ids.stream().filter(id -> ids.indexOf(id) % 2 == 0).toList();
+        assertEquals(high.subList(0, PAGE_SIZE), idsOf(first, objectMapper));
+
+        MockHttpServletResponse last = fetch("/api/tasks/by-priority?priority=HIGH", first.getHeader("X-Next-Cursor"));
+        assertEquals(high.subList(PAGE_SIZE, high.size()), idsOf(last, objectMapper));
+        assertNull(last.getHeader("X-Next-Cursor"));
+        assertEquals("false", last.getHeader("X-Has-Next"));
+    }
+
+    @Test
+    void invalidCursor_Returns400() throws Exception {
+        for (String cursor : new String[]{"not a cursor!", "djI6NQ"}) {
+            mockMvc.perform(get("/api/tasks/all-tasks").header("Authorization", token).param("cursor", cursor))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.message").value("Invalid cursor."));
+        }
+    }
+
+    @Test
+    void offsetPages_ReportHasNextAndOnlyCountWhenAsked() throws Exception {
+        mockMvc.perform(get("/api/tasks/all-tasks").header("Authorization", token)
+                        .param("page", "0").param("size", String.valueOf(PAGE_SIZE)))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Has-Next", "true"))
+                .andExpect(header().doesNotExist("X-Total-Count"))
+                .andExpect(header().doesNotExist("X-Next-Cursor"));
+
+        mockMvc.perform(get("/api/tasks/all-tasks").header("Authorization", token)
+                        .param("page", "1").param("size", String.valueOf(PAGE_SIZE)).param("includeTotal", "true"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Has-Next", "true"))
+                .andExpect(header().string("X-Total-Count", String.valueOf(TASKS)));
+    }
+
+    @Test
+    void lastOffsetPage_HasNoNext() throws Exception {
+        mockMvc.perform(get("/api/tasks/all-tasks").header("Authorization", token)
+                        .param("page", "2").param("size", String.valueOf(PAGE_SIZE)).param("includeTotal", "true"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Has-Next", "false"))
+                .andExpect(header().string("X-Total-Count", String.valueOf(TASKS)))
+                .andExpect(jsonPath("$.data.length()").value(1));
+
+        // A list whose only page is exactly full: four HIGH tasks in a page of four
+        mockMvc.perform(get("/api/tasks/by-priority").header("Authorization", token)
+                        .param("priority", "HIGH").param("page", "0").param("size", "4").param("includeTotal", "true"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Has-Next", "false"))
+                .andExpect(header().string("X-Total-Count", "4"))
+                .andExpect(jsonPath("$.data.length()").value(4));
+    }
+
+    @Test
+    void cursorPages_CarryTheTotalWhenAsked() throws Exception {
+        mockMvc.perform(get("/api/tasks/completed").header("Authorization", token)
+                        .param("completed", "false").param("cursor", "").param("size", String.valueOf(PAGE_SIZE))
+                        .param("includeTotal", "true"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Has-Next", "true"))
+                .andExpect(header().string("X-Total-Count", String.valueOf(TASKS)))
+                .andExpect(header().exists("X-Next-Cursor"));
+    }
+
+    // DTO_SELECT passes the user columns positionally and convertToDTO copies them by hand; both must keep
+    // name and email in their own fields and never expose the password hash
+    @Test
+    void reads_CarryTheOwnersNameAndEmail() throws Exception {
+        mockMvc.perform(get("/api/tasks/all-tasks").header("Authorization", token).param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].user.id").value(user.getId()))
+                .andExpect(jsonPath("$.data[0].user.name").value("Paging User"))
+                .andExpect(jsonPath("$.data[0].user.email").value("paging@example.com"))
+                .andExpect(jsonPath("$.data[0].user.role").value("USER"))
+                .andExpect(jsonPath("$.data[0].user.password").doesNotExist());
+
+        mockMvc.perform(get("/api/tasks/" + ids.get(0)).header("Authorization", token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.user.name").value("Paging User"))
+                .andExpect(jsonPath("$.data.user.email").value("paging@example.com"));
+
+        mockMvc.perform(post("/api/tasks").header("Authorization", token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\": \"Fresh task\", \"priority\": \"LOW\"}"))
+                .andExpect(status().is2xxSuccessful())
+                .andExpect(jsonPath("$.data.user.name").value("Paging User"))
+                .andExpect(jsonPath("$.data.user.email").value("paging@example.com"))
+                .andExpect(jsonPath("$.data.user.password").doesNotExist());
+    }
+
+    @Test
+    void searchCursor_WalksTheSameRankedMatchesAsOffsetPaging() throws Exception {
+        List<Long> expected = todoRepository.saveAll(List.of(
+                new Todo(0, "Report", "report for the board", null, Priority.LOW, false, user),
+                new Todo(0, "Report draft", null, null, Priority.LOW, false, user),
+                new Todo(0, "Reporting", null, null, Priority.LOW, false, user),
+                new Todo(0, "Misc", "includes the report", null, Priority.LOW, false, user))).stream().map(Todo::getId).toList();
+        String path = "/api/tasks/search-by-title?title=report&includeTotal=true";
+
+        List<Long> byCursor = new ArrayList<>();
+        String cursor = "";
+        while (cursor != null) {
+            MockHttpServletResponse response = fetch(path, cursor);
+            assertEquals("4", response.getHeader("X-Total-Count"));
+            byCursor.addAll(idsOf(response, objectMapper));
+            cursor = response.getHeader("X-Next-Cursor");
+        }
+
+        List<Long> byOffset = new ArrayList<>();
+        for (int page = 0; page < 2; page++) {
+            byOffset.addAll(idsOf(mockMvc.perform(get(path).header("Authorization", token)
+                            .param("size", String.valueOf(PAGE_SIZE))
+                            .param("page", String.valueOf(page)))
+                    .andExpect(header().string("X-Total-Count", "4"))
+                    .andReturn().getResponse(), objectMapper));
+        }
+
+        // Best match first, description-only matches included, in both modes
+        assertEquals(expected, byCursor);
+        assertEquals(expected, byOffset);
+    }
+
+    @Test
+    void searchCursor_RejectsAnIdCursor() throws Exception {
+        mockMvc.perform(get("/api/tasks/search-by-title").header("Authorization", token)
+                        .param("title", "task")
+                        .param("cursor", TaskCursor.encode(ids.get(0))))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Invalid cursor."));
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.todo_project;
+
+import com.example.todo_project.dto.TaskTextView;
+import com.example.todo_project.repository.TodoRepository;
+import com.example.todo_project.repository.UserRepository;
+import com.example.todo_project.service.TaskSearchIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class TaskSearchIndexTest {
+
+    private TodoRepository todoRepository;
+    private TaskSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        todoRepository = mock(TodoRepository.class);
+        index = new TaskSearchIndex(todoRepository, mock(UserRepository.class), true, 1000, Duration.ofMinutes(5), false);
+        when(todoRepository.findTextViewsByUserId(1L)).thenReturn(List.of(
+                view(1L, "Buy groceries", "milk and eggs"),
+                view(2L, "Call the plumber", "kitchen sink leaks"),
+                view(3L, "Milk the cows", null)));
+    }
+
+    @Test
+    void search_RanksTitleMatchesAboveDescriptionMatches() {
+        assertEquals(List.of(3L, 1L), index.search(1L, "milk"));
+        assertEquals(List.of(2L), index.search(1L, "SINK plumb"));
+        assertTrue(index.search(1L, "tractor").isEmpty());
+        verify(todoRepository, times(1)).findTextViewsByUserId(1L);
+    }
+
+    @Test
+    void search_ReflectsIncrementalUpdates() {
+        index.search(1L, "milk");
+
+        index.onTaskSaved(1L, 4L, "Oat milk", "for coffee");
+        index.onTaskSaved(1L, 3L, "Feed the cows", null);
+        index.onTaskDeleted(1L, 1L);
+
+        assertEquals(List.of(4L), index.search(1L, "milk"));
+        verify(todoRepository, times(1)).findTextViewsByUserId(1L);
+    }
+
+    private static TaskTextView view(Long id, String title, String description) {
+        return new TaskTextView() {
+            public Long getId() { return id; }
+            public String getTitle() { return title; }
+            public String getDescription() { return description; }
+        };
+    }
+
+    @Test
+    void mutationsInATransaction_ReachTheIndexOnlyOnCommit() {
+        index.search(1L, "milk");
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            index.onTaskSaved(1L, 4L, "Oat milk", null);
+            assertEquals(List.of(3L, 1L), index.search(1L, "milk"));
+            TransactionSynchronizationUtils.triggerAfterCommit();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertEquals(List.of(3L, 4L, 1L), index.search(1L, "milk"));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            index.onTaskDeleted(1L, 3L);
+            TransactionSynchronizationUtils.triggerAfterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertEquals(List.of(3L, 4L, 1L), index.search(1L, "milk"));
+    }
+
+    @Test
+    void loadThatRacedWithACommittedWrite_IsNotKept() {
+        // The write commits while the load is reading, after the rows it returns were read
+        when(todoRepository.findTextViewsByUserId(1L)).thenAnswer(invocation -> {
+            index.onTaskSaved(1L, 4L, "Oat milk", null);
+            return List.of(view(1L, "Buy groceries", "milk and eggs"));
+        }).thenReturn(List.of(view(1L, "Buy groceries", "milk and eggs"), view(4L, "Oat milk", null)));
+
+        assertEquals(List.of(1L), index.search(1L, "milk"));
+        assertEquals(List.of(4L, 1L), index.search(1L, "milk"));
+        verify(todoRepository, times(2)).findTextViewsByUserId(1L);
+    }
+}
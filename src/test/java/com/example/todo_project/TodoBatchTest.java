@@ -0,0 +1,150 @@
+package com.example.todo_project;
+
+import com.example.todo_project.dto.BatchItemResultDTO;
+import com.example.todo_project.dto.TodoPatchDTO;
+import com.example.todo_project.entity.Priority;
+import com.example.todo_project.entity.Role;
+import com.example.todo_project.entity.Todo;
+import com.example.todo_project.entity.User;
+import com.example.todo_project.exception.ApplicationException;
+import com.example.todo_project.repository.TodoRepository;
+import com.example.todo_project.repository.UserRepository;
+import com.example.todo_project.service.TodoService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class TodoBatchTest {
+
+    @Autowired
+    private TodoService todoService;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(new User(null, "batch@example.com", "password", "Batch User", Role.USER));
+    }
+
+    @AfterEach
+    void tearDown() {
+        todoRepository.deleteAll();
+        userRepository.delete(user);
+    }
+
+    @Test
+    void createTasks_SavesAllAndReportsDuplicates() {
+        List<Todo> tasks = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            tasks.add(new Todo(0, "Task " + i, "imported", null, Priority.LOW, false, null));
+        }
+        tasks.add(new Todo(0, "task 7", "same title, different case", null, Priority.LOW, false, null));
+
+        List<BatchItemResultDTO> results = todoService.createTasks(tasks, user.getEmail());
+
+        assertEquals(121, results.size());
+        assertEquals(120, results.stream().filter(result -> result.getStatus() == 201).count());
+        assertEquals(409, results.get(120).getStatus());
+        assertEquals(120, todoRepository.countByUserEmail(user.getEmail()));
+        assertEquals(120, results.stream().map(BatchItemResultDTO::getId).filter(id -> id != null).distinct().count());
+    }
+
+    @Test
+    void updateAndDeleteTasks_OnlyTouchOwnedTasks() {
+        List<BatchItemResultDTO> created = todoService.createTasks(Arrays.asList(
+                new Todo(0, "First", null, null, Priority.LOW, false, null),
+                new Todo(0, "Second", null, null, Priority.LOW, false, null)), user.getEmail());
+        long first = created.get(0).getId();
+        long second = created.get(1).getId();
+
+        List<BatchItemResultDTO> updated = todoService.updateTasks(Arrays.asList(
+                new Todo(first, "First", "done", null, Priority.HIGH, true, null),
+                new Todo(second, "First", null, null, Priority.LOW, false, null),
+                new Todo(Long.MAX_VALUE, "Missing", null, null, Priority.LOW, false, null)), user.getEmail());
+
+        assertEquals(200, updated.get(0).getStatus());
+        assertTrue(updated.get(0).getTask().isCompleted());
+        assertEquals(409, updated.get(1).getStatus());
+        assertEquals(404, updated.get(2).getStatus());
+        assertEquals(Priority.HIGH, todoRepository.findById(first).orElseThrow().getPriority());
+
+        List<BatchItemResultDTO> deleted = todoService.deleteTasks(Arrays.asList(first, first, Long.MAX_VALUE), user.getEmail());
+
+        assertEquals(200, deleted.get(0).getStatus());
+        assertEquals(400, deleted.get(1).getStatus());
+        assertEquals(404, deleted.get(2).getStatus());
+        assertEquals(1, todoRepository.countByUserEmail(user.getEmail()));
+    }
+
+    @Test
+    void bulkTransitions_UpdateOnlyOwnedTasksThatChange() {
+        User other = userRepository.save(new User(null, "other-batch@example.com", "password", "Other User", Role.USER));
+        List<BatchItemResultDTO> created = todoService.createTasks(Arrays.asList(
+                new Todo(0, "Overdue", null, LocalDate.now().minusDays(2), Priority.LOW, false, null),
+                new Todo(0, "Later", null, LocalDate.now().plusDays(2), Priority.LOW, false, null)), user.getEmail());
+        long overdue = created.get(0).getId();
+        long later = created.get(1).getId();
+        long foreign = todoService.createTasks(List.of(new Todo(0, "Foreign", null, null, Priority.LOW, false, null)),
+                other.getEmail()).get(0).getId();
+
+        assertEquals(1, todoService.completeTasksDueBefore(LocalDate.now(), user.getEmail()));
+        assertEquals(1, todoService.setCompletion(Arrays.asList(overdue, later, foreign), true, user.getEmail()));
+        assertEquals(2, todoService.setCompletion(Arrays.asList(overdue, later), false, user.getEmail()));
+        assertEquals(2, todoService.setPriority(Arrays.asList(overdue, later, foreign), Priority.HIGH, user.getEmail()));
+        assertEquals(0, todoService.setPriority(List.of(later), Priority.HIGH, user.getEmail()));
+
+        assertEquals(Priority.LOW, todoRepository.findById(foreign).orElseThrow().getPriority());
+        assertFalse(todoRepository.findById(foreign).orElseThrow().isCompleted());
+
+        todoRepository.deleteAll();
+        userRepository.delete(other);
+    }
+
+    @Test
+    void patchTask_WritesOnlySuppliedFields() {
+        long id = todoService.createTasks(List.of(new Todo(0, "Patch me", "keep this", null, Priority.MEDIUM, false, null)),
+                user.getEmail()).get(0).getId();
+
+        todoService.patchTask(id, new TodoPatchDTO(null, null, null, null, true), user.getEmail());
+
+        Todo patched = todoRepository.findById(id).orElseThrow();
+        assertTrue(patched.isCompleted());
+        assertEquals("Patch me", patched.getTitle());
+        assertEquals("keep this", patched.getDescription());
+        assertEquals(Priority.MEDIUM, patched.getPriority());
+        assertThrows(ApplicationException.TodoNotFoundException.class,
+                () -> todoService.patchTask(Long.MAX_VALUE, new TodoPatchDTO("x", null, null, null, null), user.getEmail()));
+    }
+
+    @Test
+    void deleteCompletedTasks_RemovesOnlyCompletedTasks() {
+        todoService.createTasks(Arrays.asList(
+                new Todo(0, "Done", null, null, Priority.LOW, true, null),
+                new Todo(0, "Also done", null, null, Priority.LOW, true, null),
+                new Todo(0, "Open", null, null, Priority.LOW, false, null)), user.getEmail());
+
+        assertEquals(2, todoService.deleteCompletedTasks(user.getEmail()));
+        assertEquals(1, todoRepository.countByUserEmail(user.getEmail()));
+    }
+}
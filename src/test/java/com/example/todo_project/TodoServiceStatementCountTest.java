@@ -0,0 +1,88 @@
+package com.example.todo_project;
+
+import com.example.todo_project.dto.BatchItemResultDTO;
+import com.example.todo_project.dto.TodoPatchDTO;
+import com.example.todo_project.dto.TodoResponseDTO;
+import com.example.todo_project.entity.Priority;
+import com.example.todo_project.entity.Role;
+import com.example.todo_project.entity.Todo;
+import com.example.todo_project.entity.User;
+import com.example.todo_project.repository.TodoRepository;
+import com.example.todo_project.repository.UserRepository;
+import com.example.todo_project.service.TodoService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.example.todo_project.SqlStatementAssertions.assertMaxStatements;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// Statement budgets per TodoService call. Lists cost the same few statements whatever their size and batches grow
+// only per JDBC batch, so anything that loads users or tasks row by row (an eager Todo.user, a per-item lookup) fails.
+@SpringBootTest
+@ActiveProfiles("test")
+public class TodoServiceStatementCountTest {
+
+    private static final int TASKS = 30;
+
+    @Autowired
+    private TodoService todoService;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User user;
+    private List<Long> ids;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(new User(null, "statements@example.com", "password", "Statement User", Role.USER));
+        List<Todo> tasks = new ArrayList<>();
+        for (int i = 0; i < TASKS; i++) {
+            tasks.add(new Todo(0, "Task " + i, "counted", null, Priority.LOW, false, null));
+        }
+        ids = todoService.createTasks(tasks, user.getEmail()).stream().map(BatchItemResultDTO::getId).toList();
+    }
+
+    @AfterEach
+    void tearDown() {
+        todoRepository.deleteAll();
+        userRepository.delete(user);
+    }
+
+    @Test
+    void reads_UseOneQueryWhateverTheListSize() {
+        Slice<TodoResponseDTO> page = assertMaxStatements(1, () -> todoService.getAllTasks(user.getEmail(), PageRequest.of(0, TASKS)));
+        assertEquals(TASKS, page.getNumberOfElements());
+
+        assertMaxStatements(1, () -> todoService.getAllTasksAfter(user.getEmail(), 0, TASKS));
+        assertMaxStatements(2, () -> todoService.getTasksByCompletion(user.getEmail(), false, PageRequest.of(0, TASKS)));
+        assertMaxStatements(2, () -> todoService.getTaskById(ids.get(0), user.getEmail()));
+    }
+
+    @Test
+    void writes_StayWithinTheirBudget() {
+        List<Todo> tasks = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            tasks.add(new Todo(0, "Batch " + i, null, null, Priority.MEDIUM, false, null));
+        }
+        // User and title-holder lookups (2), then per 50 tasks one id block (select + update) and one insert batch
+        // (6), and the data version increment every write pays once, run in the transaction just before commit (1)
+        assertMaxStatements(9, () -> todoService.createTasks(tasks, user.getEmail()));
+
+        assertMaxStatements(3, () -> todoService.patchTask(ids.get(0), new TodoPatchDTO(null, null, Priority.HIGH, null, true), user.getEmail()));
+        assertMaxStatements(3, () -> todoService.setCompletion(ids, true, user.getEmail()));
+        assertMaxStatements(3, () -> todoService.deleteTask(ids.get(1), user.getEmail()));
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.todo_project;
 
+import com.example.todo_project.dto.TodoPatchDTO;
 import com.example.todo_project.dto.TodoResponseDTO;
 import com.example.todo_project.entity.Priority;
 import com.example.todo_project.entity.Role;
@@ -8,12 +9,16 @@ import com.example.todo_project.entity.User;
 import com.example.todo_project.exception.ApplicationException;
 import com.example.todo_project.repository.TodoRepository;
 import com.example.todo_project.repository.UserRepository;
+import com.example.todo_project.service.DataVersionService;
+import com.example.todo_project.service.TaskSearchIndex;
 import com.example.todo_project.service.TodoService;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.springframework.dao.DataIntegrityViolationException;
 import static org.mockito.ArgumentMatchers.any;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -21,6 +26,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.never;
 
 import java.time.LocalDate;
 import java.util.Optional;
@@ -36,6 +42,12 @@ public class TodoServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private TaskSearchIndex taskSearchIndex;
+
+    @Mock
+    private DataVersionService dataVersionService;
+
     private AutoCloseable closeable;  // To manage Mockito's openMocks resource
 
     private User user;
@@ -64,8 +76,7 @@ public class TodoServiceTest {
         // Given
         String email = "test@example.com";
         when(userRepository.findByEmail(email)).thenReturn(Optional.of(user));
-        when(todoRepository.existsByTitleAndUser(todo.getTitle(), user)).thenReturn(false);
-        when(todoRepository.save(todo)).thenReturn(todo);
+        when(todoRepository.saveAndFlush(todo)).thenReturn(todo);
 
         // When
         TodoResponseDTO createdTask = todoService.createTask(todo, email);
@@ -75,7 +86,7 @@ public class TodoServiceTest {
         System.out.println("Task created with ID: " + createdTask.getId()); // Output for debugging
         assertEquals(todo.getId(), createdTask.getId());
         assertEquals(todo.getTitle(), createdTask.getTitle());
-        verify(todoRepository, times(1)).save(todo);
+        verify(todoRepository, times(1)).saveAndFlush(todo);
     }
 
     @Test
@@ -92,7 +103,7 @@ public class TodoServiceTest {
 
         when(userRepository.findByEmail(email)).thenReturn(Optional.of(user));
         when(todoRepository.findById(todo.getId())).thenReturn(Optional.of(todo));
-        when(todoRepository.save(any(Todo.class))).thenReturn(updatedTodo);
+        when(todoRepository.saveAndFlush(any(Todo.class))).thenReturn(updatedTodo);
 
         // When
         Todo updatedTask = todoService.updateTask(todo.getId(), updatedTodo, email);
@@ -101,7 +112,7 @@ public class TodoServiceTest {
         assertNotNull(updatedTask);
         System.out.println("Task updated with ID: " + updatedTask.getTitle());
         assertEquals(updatedTodo.getTitle(), updatedTask.getTitle());
-        verify(todoRepository, times(1)).save(any(Todo.class));
+        verify(todoRepository, times(1)).saveAndFlush(any(Todo.class));
     }
 
 
@@ -111,7 +122,8 @@ public class TodoServiceTest {
         // Given
         String email = "test@example.com";
         when(userRepository.findByEmail(email)).thenReturn(Optional.of(user));
-        when(todoRepository.existsByTitleAndUser(todo.getTitle(), user)).thenReturn(true);
+        when(todoRepository.saveAndFlush(todo)).thenThrow(new DataIntegrityViolationException("duplicate",
+                new ConstraintViolationException("Duplicate entry", null, "todo.ux_todo_user_title")));
 
         // When & Then
         Exception exception = assertThrows(ApplicationException.TaskAlreadyExistsException.class, () -> {
@@ -121,5 +133,35 @@ public class TodoServiceTest {
         assertEquals("Task already exists for this user. Please modify the task details or check your tasks list", exception.getMessage());
     }
 
+    @Test
+    void patchTask_NotFoundWhenNoRowMatches() {
+        // Given
+        String email = "test@example.com";
+        TodoPatchDTO patch = new TodoPatchDTO(null, null, null, null, true);
+        when(userRepository.findByEmail(email)).thenReturn(Optional.of(user));
+        when(todoRepository.patchByIdAndUser(99L, user, patch)).thenReturn(0);
+
+        // When & Then
+        assertThrows(ApplicationException.TodoNotFoundException.class, () -> todoService.patchTask(99L, patch, email));
+        verify(todoRepository, never()).findById(any());
+    }
 
+    @Test
+    void patchTask_RejectsEmptyPatch() {
+        assertThrows(ApplicationException.InvalidRequestException.class,
+                () -> todoService.patchTask(1L, new TodoPatchDTO(), "test@example.com"));
+        verify(todoRepository, never()).patchByIdAndUser(any(), any(), any());
+    }
+
+    @Test
+    void deleteTask_NotFoundWhenNoRowIsDeleted() {
+        // Given
+        String email = "test@example.com";
+        when(userRepository.findByEmail(email)).thenReturn(Optional.of(user));
+        when(todoRepository.deleteByIdAndUser(99L, user)).thenReturn(0);
+
+        // When & Then
+        assertThrows(ApplicationException.TodoNotFoundException.class, () -> todoService.deleteTask(99L, email));
+        verify(taskSearchIndex, never()).onTaskDeleted(any(), any());
+    }
 }
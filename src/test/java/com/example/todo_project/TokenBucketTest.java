@@ -0,0 +1,71 @@
+package com.example.todo_project;
+
+import com.example.todo_project.utils.TokenBucket;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TokenBucketTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void burstUpToCapacity_ThenRefillsAtTheConfiguredRate() {
+        long now = 1_000 * SECOND;
+        TokenBucket bucket = new TokenBucket(5, 10 * SECOND, now);
+
+        for (int remaining = 4; remaining >= 0; remaining--) {
+            TokenBucket.Probe probe = bucket.tryConsume(now);
+            assertTrue(probe.allowed());
+            assertEquals(remaining, probe.remaining());
+        }
+
+        TokenBucket.Probe refused = bucket.tryConsume(now);
+        assertFalse(refused.allowed());
+        assertEquals(2 * SECOND, refused.retryAfterNanos());
+        assertEquals(10 * SECOND, refused.resetNanos());
+
+        // One token every two seconds
+        assertFalse(bucket.tryConsume(now + SECOND).allowed());
+        assertTrue(bucket.tryConsume(now + 2 * SECOND).allowed());
+
+        // Idle for longer than the period: full again, but never more than capacity
+        TokenBucket.Probe afterIdle = bucket.tryConsume(now + 60 * SECOND);
+        assertTrue(afterIdle.allowed());
+        assertEquals(4, afterIdle.remaining());
+    }
+
+    @Test
+    void concurrentCallers_NeverGetMoreThanCapacity() throws Exception {
+        long now = System.nanoTime();
+        TokenBucket bucket = new TokenBucket(100, TimeUnit.HOURS.toNanos(1), now);
+        AtomicInteger granted = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+
+        try (ExecutorService pool = Executors.newFixedThreadPool(8)) {
+            for (int i = 0; i < 1_000; i++) {
+                pool.execute(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    if (bucket.tryConsume(now).allowed()) {
+                        granted.incrementAndGet();
+                    }
+                });
+            }
+            start.countDown();
+        }
+
+        assertEquals(100, granted.get());
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.todo_project;
+
+import com.example.todo_project.config.CacheConfig;
+import com.example.todo_project.entity.Role;
+import com.example.todo_project.entity.User;
+import com.example.todo_project.repository.UserRepository;
+import com.example.todo_project.utils.JwtUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static com.example.todo_project.SqlStatementAssertions.assertMaxStatements;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class UserCacheTest {
+
+    private static final String EMAIL = "cached@example.com";
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(new User(null, EMAIL, "password", "Cached User", Role.USER));
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.findById(user.getId()).ifPresent(userRepository::delete);
+    }
+
+    private long hits(String cacheName) {
+        return assertInstanceOf(CaffeineCache.class, cacheManager.getCache(cacheName)).getNativeCache().stats().hitCount();
+    }
+
+    @Test
+    void repeatedLookups_AreServedFromTheCache() {
+        userRepository.findByEmail(EMAIL).orElseThrow();
+        long before = hits(CacheConfig.USERS_BY_EMAIL);
+
+        User cached = assertMaxStatements(0, () -> userRepository.findByEmail(EMAIL.toUpperCase()).orElseThrow());
+        assertEquals(user.getId(), cached.getId());
+        assertEquals(before + 1, hits(CacheConfig.USERS_BY_EMAIL));
+    }
+
+    @Test
+    void cachedUsers_AreCopiesThatCallersCannotCorrupt() {
+        User first = userRepository.findById(user.getId()).orElseThrow();
+        first.setName("Scribbled over");
+
+        User second = userRepository.findById(user.getId()).orElseThrow();
+        assertNotSame(first, second);
+        assertEquals("Cached User", second.getName());
+    }
+
+    @Test
+    void save_EvictsBothKeysIncludingTheOldEmail() {
+        userRepository.findByEmail(EMAIL).orElseThrow();
+        userRepository.findById(user.getId()).orElseThrow();
+
+        User renamed = userRepository.findById(user.getId()).orElseThrow();
+        renamed.setEmail("renamed@example.com");
+        renamed.setName("Renamed User");
+        userRepository.save(renamed);
+
+        assertFalse(userRepository.findByEmail(EMAIL).isPresent());
+        assertEquals("Renamed User", userRepository.findByEmail("renamed@example.com").orElseThrow().getName());
+        assertEquals("renamed@example.com", userRepository.findById(user.getId()).orElseThrow().getEmail());
+    }
+
+    @Test
+    void delete_EvictsTheUser() {
+        userRepository.findByEmail(EMAIL).orElseThrow();
+        userRepository.findById(user.getId()).orElseThrow();
+
+        userRepository.delete(user);
+
+        assertFalse(userRepository.findByEmail(EMAIL).isPresent());
+        assertFalse(userRepository.findById(user.getId()).isPresent());
+    }
+
+    @Test
+    void cacheStatsEndpoint_ReportsTheUserCachesToAdminsOnly() throws Exception {
+        User admin = userRepository.save(new User(null, "cache-admin@example.com", "password", "Cache Admin", Role.ADMIN));
+        try {
+            userRepository.findByEmail(EMAIL).orElseThrow();
+            userRepository.findByEmail(EMAIL).orElseThrow();
+
+            mockMvc.perform(get("/api/admin/cache-stats")
+                            .header("Authorization", "Bearer " + jwtUtil.generateToken(admin.getId(), admin.getName(), admin.getEmail(), admin.getRole())))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data[?(@.name == 'usersByEmail')].hitCount").isNotEmpty())
+                    .andExpect(jsonPath("$.data[?(@.name == 'usersById')]").isNotEmpty());
+
+            mockMvc.perform(get("/api/admin/cache-stats")
+                            .header("Authorization", "Bearer " + jwtUtil.generateToken(user.getId(), user.getName(), user.getEmail(), user.getRole())))
+                    .andExpect(status().isForbidden());
+        } finally {
+            userRepository.delete(admin);
+        }
+    }
+}
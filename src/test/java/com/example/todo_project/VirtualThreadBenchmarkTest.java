@@ -0,0 +1,184 @@
+package com.example.todo_project;
+
+import com.example.todo_project.entity.Priority;
+import com.example.todo_project.entity.Role;
+import com.example.todo_project.entity.Todo;
+import com.example.todo_project.entity.User;
+import com.example.todo_project.repository.TodoRepository;
+import com.example.todo_project.repository.UserRepository;
+import com.example.todo_project.utils.JwtUtil;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Platform threads against virtual threads under many concurrent clients. Every connection checkout is
+ * slowed down to stand in for a MySQL round trip, so both setups are bound by the same 10-connection pool
+ * and the interesting numbers are latency and how many platform threads each needs to get there.
+ * Run with: mvn test -Dtest=VirtualThreadBenchmarkTest -Dbenchmark=true
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class VirtualThreadBenchmarkTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadBenchmarkTest.class);
+
+    private static final int REQUESTS = Integer.getInteger("benchmark.requests", 5_000);
+    private static final int CONCURRENCY = Integer.getInteger("benchmark.concurrency", 1_000);
+    private static final long DB_LATENCY_MILLIS = Long.getLong("benchmark.db-latency-ms", 20);
+
+    @Nested
+    @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+            properties = {"spring.threads.virtual.enabled=false", "app.rate-limit.enabled=false"})
+    @ActiveProfiles("test")
+    @Import(SlowConnections.class)
+    class PlatformThreads extends Scenario {
+        @Test
+        void benchmark() throws Exception {
+            run("platform threads");
+        }
+    }
+
+    @Nested
+    @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+            properties = {"spring.threads.virtual.enabled=true", "app.rate-limit.enabled=false"})
+    @ActiveProfiles("test")
+    @Import(SlowConnections.class)
+    class VirtualThreads extends Scenario {
+        @Test
+        void benchmark() throws Exception {
+            run("virtual threads");
+        }
+    }
+
+    abstract static class Scenario {
+
+        @LocalServerPort
+        private int port;
+
+        @Autowired
+        private UserRepository userRepository;
+
+        @Autowired
+        private TodoRepository todoRepository;
+
+        @Autowired
+        private JwtUtil jwtUtil;
+
+        void run(String label) throws Exception {
+            User user = userRepository.findByEmail("bench@example.com")
+                    .orElseGet(() -> userRepository.save(new User(null, "bench@example.com", "password", "Bench User", Role.USER)));
+            if (todoRepository.countByUserEmail(user.getEmail()) == 0) {
+                for (int i = 0; i < 20; i++) {
+                    todoRepository.save(new Todo(0, "Bench " + i, "benchmark task", null, Priority.LOW, false, user));
+                }
+            }
+            String token = jwtUtil.generateToken(user.getId(), user.getName(), user.getEmail(), user.getRole());
+            HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/tasks/all-tasks?size=20"))
+                    .header("Authorization", "Bearer " + token)
+                    .build();
+
+            try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+                HttpClient client = HttpClient.newBuilder().executor(clients).build();
+                drive(client, request, clients, 200, new AtomicInteger());
+
+                ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+                threads.resetPeakThreadCount();
+                long started = System.nanoTime();
+                AtomicInteger failures = new AtomicInteger();
+                long[] latencies = drive(client, request, clients, REQUESTS, failures);
+                long elapsed = System.nanoTime() - started;
+
+                Arrays.sort(latencies);
+                logger.info("{}: {} requests, {} concurrent -> {} failed, {} req/s, p50 {} ms, p99 {} ms, peak platform threads {}",
+                        label, REQUESTS, CONCURRENCY, failures.get(),
+                        Math.round(REQUESTS / (elapsed / 1e9)),
+                        latencies[latencies.length / 2] / 1_000_000,
+                        latencies[(int) (latencies.length * 0.99)] / 1_000_000,
+                        threads.getPeakThreadCount());
+            }
+        }
+
+        private long[] drive(HttpClient client, HttpRequest request, ExecutorService clients, int requests,
+                             AtomicInteger failures) throws Exception {
+            Semaphore inFlight = new Semaphore(CONCURRENCY);
+            List<Future<Long>> results = new ArrayList<>(requests);
+            for (int i = 0; i < requests; i++) {
+                inFlight.acquire();
+                results.add(clients.submit(() -> {
+                    try {
+                        long sent = System.nanoTime();
+                        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                        if (response.statusCode() != 200) {
+                            failures.incrementAndGet();
+                        }
+                        return System.nanoTime() - sent;
+                    } finally {
+                        inFlight.release();
+                    }
+                }));
+            }
+            long[] latencies = new long[requests];
+            for (int i = 0; i < requests; i++) {
+                latencies[i] = results.get(i).get();
+            }
+            return latencies;
+        }
+    }
+
+    // Holds every checked-out connection for an extra DB_LATENCY_MILLIS, standing in for the network hop to MySQL
+    @TestConfiguration
+    static class SlowConnections {
+        @Bean
+        static BeanPostProcessor slowConnectionsPostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (!(bean instanceof DataSource dataSource) || bean instanceof DelegatingDataSource) {
+                        return bean;
+                    }
+                    return new DelegatingDataSource(dataSource) {
+                        @Override
+                        public Connection getConnection() throws SQLException {
+                            Connection connection = super.getConnection();
+                            try {
+                                Thread.sleep(DB_LATENCY_MILLIS);
+                            } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                            }
+                            return connection;
+                        }
+                    };
+                }
+            };
+        }
+    }
+}